@@ -0,0 +1,112 @@
+package com.flightmanagement.flight.cache;
+
+import com.flightmanagement.flight.dto.reference.AircraftRef;
+import com.flightmanagement.flight.dto.reference.AirlineRef;
+import com.flightmanagement.flight.dto.reference.StationRef;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Fixed field order, no names: each nullable field is a presence byte followed by its value.
+ * Adding, removing or reordering a field requires a new {@link ReferenceCacheSerializer#SCHEMA_VERSION}.
+ */
+public class BinaryReferenceCodec implements ReferenceCodec {
+
+    @Override
+    public String name() {
+        return "binary";
+    }
+
+    @Override
+    public void write(Object reference, DataOutputStream out) throws IOException {
+        switch (reference) {
+            case AirlineRef airline -> {
+                writeLong(out, airline.id());
+                writeString(out, airline.code());
+                writeString(out, airline.name());
+                writeString(out, airline.country());
+                writeBoolean(out, airline.isActive());
+            }
+            case StationRef station -> {
+                writeLong(out, station.id());
+                writeString(out, station.icaoCode());
+                writeString(out, station.iataCode());
+                writeString(out, station.name());
+                writeString(out, station.city());
+                writeString(out, station.country());
+                writeString(out, station.timezone());
+                writeBoolean(out, station.isActive());
+            }
+            case AircraftRef aircraft -> {
+                writeLong(out, aircraft.id());
+                writeString(out, aircraft.type());
+                writeString(out, aircraft.manufacturer());
+                writeString(out, aircraft.model());
+                writeInt(out, aircraft.capacity());
+                writeBoolean(out, aircraft.isActive());
+            }
+            default -> throw new IOException("Unsupported reference type: " + reference.getClass().getName());
+        }
+    }
+
+    @Override
+    public Object read(Class<?> type, DataInputStream in) throws IOException {
+        if (type == AirlineRef.class) {
+            return new AirlineRef(readLong(in), readString(in), readString(in), readString(in), readBoolean(in));
+        }
+        if (type == StationRef.class) {
+            return new StationRef(readLong(in), readString(in), readString(in), readString(in), readString(in),
+                    readString(in), readString(in), readBoolean(in));
+        }
+        if (type == AircraftRef.class) {
+            return new AircraftRef(readLong(in), readString(in), readString(in), readString(in), readInt(in),
+                    readBoolean(in));
+        }
+        throw new IOException("Unsupported reference type: " + type.getName());
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static void writeInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static void writeBoolean(DataOutputStream out, Boolean value) throws IOException {
+        // 0 = null, 1 = false, 2 = true
+        out.writeByte(value == null ? 0 : value ? 2 : 1);
+    }
+
+    private static Long readLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    private static Integer readInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static Boolean readBoolean(DataInputStream in) throws IOException {
+        byte value = in.readByte();
+        return value == 0 ? null : value == 2;
+    }
+}
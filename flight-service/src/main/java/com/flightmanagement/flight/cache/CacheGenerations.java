@@ -0,0 +1,114 @@
+package com.flightmanagement.flight.cache;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Generation counter per cache namespace. Every key of a namespace embeds its current generation,
+ * so invalidating the namespace is a single INCR and the old generation simply ages out by TTL.
+ */
+@Component
+@Slf4j
+public class CacheGenerations {
+
+    public static final String REFERENCE_NAMESPACE = "reference";
+
+    private static final String GENERATION_KEY_PREFIX = "cache:generation:";
+    private static final Set<String> REFERENCE_CACHES = Set.of("airlines", "airlines-by-code", "stations",
+            "stations-by-icao", "stations-by-iata", "aircraft", "aircraft-by-type");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public CacheGenerations(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    public static String namespaceOf(String cacheName) {
+        return REFERENCE_CACHES.contains(cacheName) ? REFERENCE_NAMESPACE : cacheName;
+    }
+
+    /**
+     * Key prefix for a Spring cache, e.g. {@code reference:g3:airlines::}.
+     */
+    public String cachePrefix(String cacheName) {
+        String namespace = namespaceOf(cacheName);
+        return namespace + ":g" + current(namespace) + ":" + cacheName + "::";
+    }
+
+    /**
+     * Plain Redis key scoped to the current generation of a namespace.
+     */
+    public String scopedKey(String namespace, String key) {
+        return namespace + ":g" + current(namespace) + ":" + key;
+    }
+
+    public long current(String namespace) {
+        return generations.computeIfAbsent(namespace, this::readGeneration);
+    }
+
+    public long invalidate(String namespace) {
+        Long generation = stringRedisTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + namespace);
+        long next = generation != null ? generation : current(namespace) + 1;
+        update(namespace, next);
+        log.info("Invalidated cache namespace {}, now at generation {}", namespace, next);
+        return next;
+    }
+
+    public void onGenerationChange(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    // Other nodes learn about an INCR here; until then they keep serving their previous generation
+    @Scheduled(fixedDelayString = "#{@flightServiceProperties.cacheGeneration.refreshInterval.toMillis()}")
+    public void refresh() {
+        List<String> namespaces = List.copyOf(generations.keySet());
+        if (namespaces.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> values = stringRedisTemplate.opsForValue()
+                    .multiGet(namespaces.stream().map(ns -> GENERATION_KEY_PREFIX + ns).toList());
+            if (values == null) {
+                return;
+            }
+            for (int i = 0; i < namespaces.size(); i++) {
+                update(namespaces.get(i), parse(values.get(i)));
+            }
+        } catch (Exception e) {
+            log.debug("Failed to refresh cache generations: {}", e.getMessage());
+        }
+    }
+
+    private void update(String namespace, long generation) {
+        Long previous = generations.put(namespace, generation);
+        if (previous != null && previous != generation) {
+            listeners.forEach(listener -> listener.accept(namespace));
+        }
+    }
+
+    private long readGeneration(String namespace) {
+        try {
+            return parse(stringRedisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + namespace));
+        } catch (Exception e) {
+            log.warn("Failed to read cache generation for {}, assuming 0: {}", namespace, e.getMessage());
+            return 0L;
+        }
+    }
+
+    private static long parse(String value) {
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
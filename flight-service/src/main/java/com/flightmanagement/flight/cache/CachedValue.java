@@ -0,0 +1,31 @@
+package com.flightmanagement.flight.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cached value together with the time it was loaded from the source, so every tier and node
+ * can tell how old an entry is without asking Redis for its remaining TTL. The source's ETag,
+ * when it sent one, lets a refresh revalidate the entry instead of downloading it again.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedValue {
+
+    private Object value;
+    private long loadedAt;
+    private String etag;
+
+    public CachedValue(Object value, long loadedAt) {
+        this(value, loadedAt, null);
+    }
+
+    /**
+     * Same value and validator, counted as loaded now.
+     */
+    public CachedValue revalidated() {
+        return new CachedValue(value, System.currentTimeMillis(), etag);
+    }
+}
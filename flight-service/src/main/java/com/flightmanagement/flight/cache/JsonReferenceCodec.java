@@ -0,0 +1,31 @@
+package com.flightmanagement.flight.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Plain JSON body without embedded class names; the record type comes from the envelope.
+ * Larger than {@link BinaryReferenceCodec} but readable with redis-cli.
+ */
+public class JsonReferenceCodec implements ReferenceCodec {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public void write(Object reference, DataOutputStream out) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(reference));
+    }
+
+    @Override
+    public Object read(Class<?> type, DataInputStream in) throws IOException {
+        return objectMapper.readValue(in.readAllBytes(), type);
+    }
+}
@@ -0,0 +1,73 @@
+package com.flightmanagement.flight.cache;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers reference codes that reference-manager reported as unknown, for a short time,
+ * so a repeated mistyped code costs one remote call instead of one per row.
+ */
+@Component
+public class NegativeReferenceCache {
+
+    private final boolean enabled;
+    private final Cache<String, Boolean> missing;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> hitCounters = new ConcurrentHashMap<>();
+
+    public NegativeReferenceCache(FlightServiceProperties properties, MeterRegistry meterRegistry) {
+        FlightServiceProperties.NegativeCache negativeCache = properties.getNegativeCache();
+        this.enabled = negativeCache.isEnabled();
+        this.meterRegistry = meterRegistry;
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(negativeCache.getMaximumSize())
+                .expireAfterWrite(negativeCache.getTtl())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, missing, "reference-negative", Tags.empty());
+    }
+
+    public boolean isKnownMissing(String cacheName, String code) {
+        if (!enabled || code == null) {
+            return false;
+        }
+        boolean hit = missing.getIfPresent(key(cacheName, code)) != null;
+        if (hit) {
+            hitCounters.computeIfAbsent(cacheName, name -> Counter.builder("reference.negative.hits")
+                    .description("Lookups answered from the negative cache without a remote call")
+                    .tag("cache", name)
+                    .register(meterRegistry)).increment();
+        }
+        return hit;
+    }
+
+    public void recordMissing(String cacheName, String code) {
+        if (enabled && code != null) {
+            missing.put(key(cacheName, code), Boolean.TRUE);
+        }
+    }
+
+    public void invalidate(String cacheName, Object code) {
+        if (code != null) {
+            missing.invalidate(key(cacheName, code.toString()));
+        }
+    }
+
+    public void invalidateAll() {
+        missing.invalidateAll();
+    }
+
+    private static String key(String cacheName, String code) {
+        return cacheName + ":" + code.trim().toUpperCase();
+    }
+}
@@ -0,0 +1,110 @@
+package com.flightmanagement.flight.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The one place reference entities are cached. Every entry lives under its Spring cache key
+ * ({@code reference:g<N>:<cache>::<key>}) behind the near cache, with the TTL configured for that cache;
+ * fallbacks read the same entries, so there is no second copy to keep in step.
+ */
+@Component
+@Slf4j
+public class ReferenceCache {
+
+    private final CacheManager cacheManager;
+    private final ReferenceLoadCoalescer loadCoalescer;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ReferenceCache(CacheManager cacheManager, ReferenceLoadCoalescer loadCoalescer,
+                          MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.loadCoalescer = loadCoalescer;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Cached value, or the loader's result written once to the cache together with its ETag.
+     * Concurrent misses share one load. A {@code null} from the loader is returned but not cached.
+     */
+    public <T> T getOrLoad(String cacheName, Object key, Class<T> type, Supplier<CachedValue> loader) {
+        T cached = get(cacheName, key, type);
+        if (cached != null) {
+            count(cacheName, "hit");
+            return cached;
+        }
+
+        count(cacheName, "miss");
+        return loadCoalescer.load(cacheName, key, type, () -> {
+            CachedValue loaded = loader.get();
+            if (loaded == null || loaded.getValue() == null) {
+                return null;
+            }
+            put(cacheName, key, loaded);
+            return type.cast(loaded.getValue());
+        });
+    }
+
+    public <T> T get(String cacheName, Object key, Class<T> type) {
+        Cache cache = cacheManager.getCache(cacheName);
+        try {
+            return cache != null ? cache.get(key, type) : null;
+        } catch (RuntimeException e) {
+            log.warn("Reference cache read {}:{} failed: {}", cacheName, key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Read used when reference-manager is unavailable: whatever is still cached, never a remote call.
+     */
+    public <T> T getForFallback(String cacheName, Object key, Class<T> type) {
+        T cached = get(cacheName, key, type);
+        count(cacheName, cached != null ? "fallback-hit" : "fallback-miss");
+        return cached;
+    }
+
+    public void put(String cacheName, Object key, Object value) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || value == null) {
+            return;
+        }
+        // Only the near cache tracks load time and ETag; a plain cache stores the bare value
+        Object stored = value instanceof CachedValue cachedValue && !(cache instanceof TwoTierCache)
+                ? cachedValue.getValue() : value;
+        try {
+            cache.put(key, stored);
+        } catch (RuntimeException e) {
+            log.warn("Reference cache write {}:{} failed: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    public void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+
+    public void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private void count(String cacheName, String result) {
+        counters.computeIfAbsent(cacheName + ":" + result, ignored -> Counter.builder("reference.cache.requests")
+                .tags("cache", cacheName, "result", result)
+                .register(meterRegistry)).increment();
+    }
+}
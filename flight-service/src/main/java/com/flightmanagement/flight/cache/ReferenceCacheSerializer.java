@@ -0,0 +1,130 @@
+package com.flightmanagement.flight.cache;
+
+import com.flightmanagement.flight.dto.reference.AircraftRef;
+import com.flightmanagement.flight.dto.reference.AirlineRef;
+import com.flightmanagement.flight.dto.reference.StationRef;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis value serializer for reference records. Every payload starts with a schema version byte and a
+ * type byte (high bit set when wrapped in a {@link CachedValue}, followed by its load time and ETag); the record
+ * itself is written by the configured {@link ReferenceCodec}. Payloads of another schema version read
+ * as a miss, so they are reloaded instead of failing after a format change.
+ */
+public class ReferenceCacheSerializer implements RedisSerializer<Object> {
+
+    public static final byte SCHEMA_VERSION = 2;
+
+    private static final int WRAPPED = 0x80;
+    // Tag is position + 1; only ever append to this list
+    private static final List<Class<?>> TYPES = List.of(AirlineRef.class, StationRef.class, AircraftRef.class);
+
+    private final ReferenceCodec codec;
+    private final Timer encodeTimer;
+    private final Timer decodeTimer;
+    private final DistributionSummary payloadSize;
+    private final Counter schemaMismatches;
+
+    public ReferenceCacheSerializer(ReferenceCodec codec, MeterRegistry meterRegistry) {
+        this.codec = codec;
+        this.encodeTimer = Timer.builder("cache.codec.encode")
+                .tag("codec", codec.name())
+                .register(meterRegistry);
+        this.decodeTimer = Timer.builder("cache.codec.decode")
+                .tag("codec", codec.name())
+                .register(meterRegistry);
+        this.payloadSize = DistributionSummary.builder("cache.codec.payload.size")
+                .tag("codec", codec.name())
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.schemaMismatches = Counter.builder("cache.codec.schema.mismatch")
+                .tag("codec", codec.name())
+                .description("Cached payloads skipped because they were written with another schema version")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        long started = System.nanoTime();
+        Object reference = value instanceof CachedValue cachedValue ? cachedValue.getValue() : value;
+        int tag = reference != null ? TYPES.indexOf(reference.getClass()) + 1 : 0;
+        if (tag == 0) {
+            throw new SerializationException("Not a reference record: " + value);
+        }
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(SCHEMA_VERSION);
+            if (value instanceof CachedValue cachedValue) {
+                out.writeByte(tag | WRAPPED);
+                out.writeLong(cachedValue.getLoadedAt());
+                out.writeBoolean(cachedValue.getEtag() != null);
+                if (cachedValue.getEtag() != null) {
+                    out.writeUTF(cachedValue.getEtag());
+                }
+            } else {
+                out.writeByte(tag);
+            }
+            codec.write(reference, out);
+            out.flush();
+
+            byte[] payload = bytes.toByteArray();
+            payloadSize.record(payload.length);
+            return payload;
+        } catch (IOException e) {
+            throw new SerializationException("Failed to encode " + reference.getClass().getSimpleName(), e);
+        } finally {
+            encodeTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != SCHEMA_VERSION) {
+            schemaMismatches.increment();
+            return null;
+        }
+
+        long started = System.nanoTime();
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+            int header = in.readUnsignedByte();
+            int tag = header & ~WRAPPED;
+            if (tag < 1 || tag > TYPES.size()) {
+                throw new SerializationException("Unknown reference type tag: " + tag);
+            }
+
+            if ((header & WRAPPED) != 0) {
+                long loadedAt = in.readLong();
+                String etag = in.readBoolean() ? in.readUTF() : null;
+                return new CachedValue(codec.read(TYPES.get(tag - 1), in), loadedAt, etag);
+            }
+            return codec.read(TYPES.get(tag - 1), in);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to decode reference payload", e);
+        } finally {
+            decodeTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.flightmanagement.flight.cache;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Encodes the fields of one reference record. The envelope around it (schema version, record type,
+ * load time) is written by {@link ReferenceCacheSerializer}, so a codec only deals with the record itself.
+ */
+public interface ReferenceCodec {
+
+    String name();
+
+    void write(Object reference, DataOutputStream out) throws IOException;
+
+    Object read(Class<?> type, DataInputStream in) throws IOException;
+}
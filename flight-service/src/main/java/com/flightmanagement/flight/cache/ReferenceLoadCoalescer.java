@@ -0,0 +1,158 @@
+package com.flightmanagement.flight.cache;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight loading of reference entries. Concurrent misses for the same key on this node share
+ * one in-flight load; across nodes a short Redis lease lets one node fetch while the others wait
+ * for the shared cache to be filled. Loaders write the shared cache themselves.
+ */
+@Component
+@Slf4j
+public class ReferenceLoadCoalescer {
+
+    private static final String LEASE_PREFIX = "lease:";
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final FlightServiceProperties.SingleFlight properties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter coalescedLoads;
+    private final Counter leaseWaits;
+    private final Counter leaseWaitHits;
+
+    public ReferenceLoadCoalescer(CacheManager cacheManager, RedisTemplate<String, Object> redisTemplate,
+                                  FlightServiceProperties properties, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties.getSingleFlight();
+        this.coalescedLoads = Counter.builder("reference.load.coalesced")
+                .description("Cache misses that joined a load already in flight on this node")
+                .register(meterRegistry);
+        this.leaseWaits = Counter.builder("reference.load.lease.waits")
+                .description("Cache misses that waited for another node holding the load lease")
+                .register(meterRegistry);
+        this.leaseWaitHits = Counter.builder("reference.load.lease.wait.hits")
+                .description("Lease waits answered by the value another node loaded")
+                .register(meterRegistry);
+    }
+
+    public <T> T load(String cacheName, Object key, Class<T> type, Supplier<T> loader) {
+        String flightKey = cacheName + ":" + key;
+
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, created);
+        if (existing != null) {
+            coalescedLoads.increment();
+            return type.cast(join(existing));
+        }
+
+        try {
+            T value = loadAcrossNodes(cacheName, key, flightKey, type, loader);
+            created.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, created);
+        }
+    }
+
+    private <T> T loadAcrossNodes(String cacheName, Object key, String flightKey, Class<T> type,
+                                  Supplier<T> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (!properties.isCrossNode() || cache == null) {
+            return loader.get();
+        }
+
+        String leaseKey = LEASE_PREFIX + flightKey;
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(leaseKey, nodeId, properties.getLeaseTtl());
+        } catch (Exception e) {
+            log.debug("Load lease unavailable for {}, loading locally: {}", flightKey, e.getMessage());
+            return loader.get();
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                // The loader fills the shared cache before the lease goes, so waiting nodes find the value
+                return loader.get();
+            } finally {
+                releaseLease(leaseKey);
+            }
+        }
+
+        T loadedElsewhere = awaitOtherNode(cache, key, type, leaseKey);
+        return loadedElsewhere != null ? loadedElsewhere : loader.get();
+    }
+
+    private <T> T awaitOtherNode(Cache cache, Object key, Class<T> type, String leaseKey) {
+        leaseWaits.increment();
+        long deadline = System.nanoTime() + properties.getLeaseWait().toNanos();
+
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(properties.getPollInterval().toMillis());
+
+                T value = cache.get(key, type);
+                if (value != null) {
+                    leaseWaitHits.increment();
+                    return value;
+                }
+                // Lease released without a value: the other node failed or found nothing
+                if (!Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey))) {
+                    return null;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("Waiting for load lease {} failed: {}", leaseKey, e.getMessage());
+        }
+        return null;
+    }
+
+    private void releaseLease(String leaseKey) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE, List.of(leaseKey), nodeId);
+        } catch (Exception e) {
+            log.debug("Failed to release load lease {}, it will expire: {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.flightmanagement.flight.cache;
+
+/**
+ * Reloads one cache entry for refresh-ahead. Receives the entry being refreshed so the source can be
+ * asked conditionally; returning {@link CachedValue#revalidated()} keeps the value and restarts its TTL,
+ * returning {@code null} evicts it.
+ */
+@FunctionalInterface
+public interface RefreshLoader {
+
+    CachedValue reload(Object key, CachedValue current);
+}
@@ -0,0 +1,232 @@
+package com.flightmanagement.flight.cache;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Spring {@link Cache} that keeps an in-process Caffeine tier (L1) in front of a shared
+ * remote cache (L2). Reads fall through L1 to L2 and backfill L1; writes and evictions go to both.
+ * Entries past a jittered fraction of their TTL are still served while a background refresh runs.
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, CachedValue> local;
+    private final Cache remote;
+    private final Duration ttl;
+    private final FlightServiceProperties.RefreshAhead refreshAhead;
+    private final Executor refreshExecutor;
+
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private volatile RefreshLoader refreshLoader;
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Timer remoteLoadTimer;
+    private final Counter refreshSuccesses;
+    private final Counter refreshFailures;
+    private final Counter refreshNotModified;
+
+    public TwoTierCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, CachedValue> local, Cache remote,
+                        Duration ttl, FlightServiceProperties.RefreshAhead refreshAhead, Executor refreshExecutor,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.refreshExecutor = refreshExecutor;
+
+        // L1 exposes Caffeine's own statistics, L2 is counted here with the same tag keys
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "l1"));
+        this.remoteHits = Counter.builder("cache.gets")
+                .tags("cache", name, "tier", "l2", "result", "hit")
+                .register(meterRegistry);
+        this.remoteMisses = Counter.builder("cache.gets")
+                .tags("cache", name, "tier", "l2", "result", "miss")
+                .register(meterRegistry);
+        this.remoteLoadTimer = Timer.builder("cache.load.latency")
+                .tags("cache", name, "tier", "l2")
+                .register(meterRegistry);
+        this.refreshSuccesses = Counter.builder("cache.refresh")
+                .tags("cache", name, "result", "success")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("cache.refresh")
+                .tags("cache", name, "result", "failure")
+                .register(meterRegistry);
+        this.refreshNotModified = Counter.builder("cache.refresh")
+                .tags("cache", name, "result", "not-modified")
+                .register(meterRegistry);
+    }
+
+    public void setRefreshLoader(RefreshLoader refreshLoader) {
+        this.refreshLoader = refreshLoader;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CachedValue entry = local.getIfPresent(key);
+        if (entry == null) {
+            ValueWrapper remoteValue = remoteLoadTimer.record(() -> remote.get(key));
+            if (remoteValue == null || remoteValue.get() == null) {
+                remoteMisses.increment();
+                return null;
+            }
+
+            remoteHits.increment();
+            entry = toEntry(remoteValue.get());
+            local.put(key, entry);
+        }
+
+        refreshIfAging(key, entry);
+        return new SimpleValueWrapper(entry.getValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        Object stored = remote.get(key, (Callable<Object>) () -> new CachedValue(valueLoader.call(),
+                System.currentTimeMillis()));
+        CachedValue entry = toEntry(stored);
+        if (entry.getValue() != null) {
+            local.put(key, entry);
+        }
+        return (T) entry.getValue();
+    }
+
+    /**
+     * Stores the value in both tiers. A {@link CachedValue} is stored as given, keeping its load time and ETag.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            remote.put(key, null);
+            return;
+        }
+        CachedValue entry = value instanceof CachedValue cachedValue
+                ? cachedValue : new CachedValue(value, System.currentTimeMillis());
+        remote.put(key, entry);
+        local.put(key, entry);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        CachedValue entry = new CachedValue(value, System.currentTimeMillis());
+        ValueWrapper existing = remote.putIfAbsent(key, entry);
+        CachedValue current = existing != null && existing.get() != null ? toEntry(existing.get()) : entry;
+        if (current.getValue() != null) {
+            local.put(key, current);
+        }
+        return existing != null ? new SimpleValueWrapper(current.getValue()) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private void refreshIfAging(Object key, CachedValue entry) {
+        RefreshLoader loader = refreshLoader;
+        if (loader == null || !refreshAhead.isEnabled() || ttl == null) {
+            return;
+        }
+
+        // Each read draws its own threshold, so entries loaded together do not all refresh on the same read
+        double threshold = ttl.toMillis() * refreshAhead.getFraction()
+                * (1 - refreshAhead.getJitter() * ThreadLocalRandom.current().nextDouble());
+        long age = System.currentTimeMillis() - entry.getLoadedAt();
+        if (age < threshold || !refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> refresh(key, entry, loader));
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private void refresh(Object key, CachedValue current, RefreshLoader loader) {
+        try {
+            CachedValue fresh = loader.reload(key, current);
+            if (fresh == null || fresh.getValue() == null) {
+                evict(key);
+            } else {
+                // Re-putting restarts the remote TTL, including for an unchanged (304) value
+                put(key, fresh);
+            }
+            if (fresh != null && fresh.getValue() == current.getValue()) {
+                refreshNotModified.increment();
+            } else {
+                refreshSuccesses.increment();
+            }
+        } catch (Exception e) {
+            // Keep serving the current value until it expires
+            refreshFailures.increment();
+            log.debug("Refresh-ahead of {}:{} failed: {}", name, key, e.getMessage());
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    private static CachedValue toEntry(Object stored) {
+        // Entries written before values were wrapped count as freshly loaded
+        return stored instanceof CachedValue cachedValue ? cachedValue : new CachedValue(stored, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,96 @@
+package com.flightmanagement.flight.cache;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Wraps the Redis cache manager and puts a near cache in front of the configured cache names.
+ * Caches that are not listed are returned from the remote manager unchanged.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final FlightServiceProperties.NearCache nearCacheProperties;
+    private final FlightServiceProperties.RefreshAhead refreshAheadProperties;
+    private final Map<String, Duration> remoteTtls;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> nearCacheNames;
+
+    private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+    private final Map<String, RefreshLoader> refreshLoaders = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, FlightServiceProperties properties,
+                               Map<String, Duration> remoteTtls, Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.nearCacheProperties = properties.getNearCache();
+        this.refreshAheadProperties = properties.getRefreshAhead();
+        this.remoteTtls = remoteTtls;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        this.nearCacheNames = Set.copyOf(nearCacheProperties.getCaches());
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null || !nearCacheProperties.isEnabled() || !nearCacheNames.contains(name)) {
+            return remote;
+        }
+        return twoTierCaches.computeIfAbsent(name, cacheName -> createTwoTierCache(cacheName, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * Registers how entries of a cache are reloaded from their source for refresh-ahead.
+     */
+    public void registerRefreshLoader(String name, RefreshLoader loader) {
+        refreshLoaders.put(name, loader);
+        TwoTierCache existing = twoTierCaches.get(name);
+        if (existing != null) {
+            existing.setRefreshLoader(loader);
+        }
+    }
+
+    public void clearLocal(String namespace) {
+        twoTierCaches.forEach((name, cache) -> {
+            if (CacheGenerations.namespaceOf(name).equals(namespace)) {
+                cache.clearLocal();
+            }
+        });
+    }
+
+    private TwoTierCache createTwoTierCache(String name, Cache remote) {
+        // The near copy never outlives the shared copy it was read from
+        Duration ttl = nearCacheProperties.getTtl();
+        Duration remoteTtl = remoteTtls.get(name);
+        if (remoteTtl != null && remoteTtl.compareTo(ttl) < 0) {
+            ttl = remoteTtl;
+        }
+
+        com.github.benmanes.caffeine.cache.Cache<Object, CachedValue> local = Caffeine.newBuilder()
+                .maximumSize(nearCacheProperties.getMaximumSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        TwoTierCache cache = new TwoTierCache(name, local, remote, remoteTtl, refreshAheadProperties, refreshExecutor,
+                meterRegistry);
+        cache.setRefreshLoader(refreshLoaders.get(name));
+        return cache;
+    }
+}
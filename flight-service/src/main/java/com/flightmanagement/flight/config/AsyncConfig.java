@@ -1,16 +1,23 @@
 package com.flightmanagement.flight.config;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig {
 
+    private final FlightServiceProperties properties;
+
     @Bean(name = "csvProcessingExecutor")
     public Executor csvProcessingExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -32,4 +39,26 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "cacheRefreshExecutor")
+    public Executor cacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Reference lookups mostly wait on the network, one cheap virtual thread per call
+    @Bean(name = "referenceLookupExecutor", destroyMethod = "shutdown")
+    public ExecutorService referenceLookupExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("reference-lookup-", 0).factory());
+    }
+
+    @Bean(name = "revalidationPool", destroyMethod = "shutdown")
+    public ForkJoinPool revalidationPool() {
+        return new ForkJoinPool(Math.max(1, properties.getRevalidation().getParallelism()));
+    }
 }
\ No newline at end of file
@@ -5,13 +5,30 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.flightmanagement.flight.cache.BinaryReferenceCodec;
+import com.flightmanagement.flight.cache.CacheGenerations;
+import com.flightmanagement.flight.cache.JsonReferenceCodec;
+import com.flightmanagement.flight.cache.ReferenceCacheSerializer;
+import com.flightmanagement.flight.cache.ReferenceCodec;
+import com.flightmanagement.flight.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -22,11 +39,16 @@ import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Configuration
 @RequiredArgsConstructor
 public class CacheConfig {
 
+    private static final int CLEAR_SCAN_BATCH = 1000;
+
     private final FlightServiceProperties properties;
 
     @Bean
@@ -71,7 +93,18 @@ public class CacheConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public ReferenceCacheSerializer referenceCacheSerializer(MeterRegistry meterRegistry) {
+        ReferenceCodec codec = "json".equalsIgnoreCase(properties.getCacheCodec().getType())
+                ? new JsonReferenceCodec()
+                : new BinaryReferenceCodec();
+        return new ReferenceCacheSerializer(codec, meterRegistry);
+    }
+
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry,
+                                     @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                     CacheGenerations cacheGenerations,
+                                     ReferenceCacheSerializer referenceCacheSerializer) {
         GenericJackson2JsonRedisSerializer jsonSerializer =
                 new GenericJackson2JsonRedisSerializer(redisObjectMapper());
 
@@ -79,19 +112,47 @@ public class CacheConfig {
                 .entryTtl(Duration.ofHours(1))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer))
-                .disableCachingNullValues();
-
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(defaultConfig)
-                .withCacheConfiguration("airlines",
-                        defaultConfig.entryTtl(properties.getRedis().getTtl().getAirlines()))
-                .withCacheConfiguration("stations",
-                        defaultConfig.entryTtl(properties.getRedis().getTtl().getStations()))
-                .withCacheConfiguration("aircraft",
-                        defaultConfig.entryTtl(properties.getRedis().getTtl().getAircraft()))
-                .withCacheConfiguration("flight-lookups",
-                        defaultConfig.entryTtl(properties.getRedis().getTtl().getFlightLookups()))
-                .build();
+                .disableCachingNullValues()
+                .computePrefixWith(cacheGenerations::cachePrefix);
+
+        Map<String, Duration> ttls = Map.of(
+                "airlines", properties.getRedis().getTtl().getAirlines(),
+                "airlines-by-code", properties.getRedis().getTtl().getAirlines(),
+                "stations", properties.getRedis().getTtl().getStations(),
+                "stations-by-icao", properties.getRedis().getTtl().getStations(),
+                "stations-by-iata", properties.getRedis().getTtl().getStations(),
+                "aircraft", properties.getRedis().getTtl().getAircraft(),
+                "aircraft-by-type", properties.getRedis().getTtl().getAircraft(),
+                "flight-lookups", properties.getRedis().getTtl().getFlightLookups());
+
+        RedisCacheConfiguration referenceConfig = defaultConfig
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(referenceCacheSerializer));
+
+        // Clearing a cache walks its keys with SCAN rather than a blocking KEYS
+        RedisCacheWriter cacheWriter =
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(CLEAR_SCAN_BATCH));
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(cacheWriter)
+                .cacheDefaults(defaultConfig);
+        ttls.forEach((name, ttl) -> {
+            boolean reference = CacheGenerations.REFERENCE_NAMESPACE.equals(CacheGenerations.namespaceOf(name));
+            RedisCacheConfiguration config = reference ? referenceConfig : defaultConfig;
+            builder.withCacheConfiguration(name, config.entryTtl(jitteredTtl(ttl)));
+        });
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        // In-process near cache in front of Redis for reference data
+        TwoTierCacheManager cacheManager =
+                new TwoTierCacheManager(redisCacheManager, properties, ttls, cacheRefreshExecutor, meterRegistry);
+        // A generation bump on any node makes the near copies of that namespace stale
+        cacheGenerations.onGenerationChange(cacheManager::clearLocal);
+        return cacheManager;
+    }
+
+    // Entries written together expire spread over the last part of their TTL instead of all at once
+    private RedisCacheWriter.TtlFunction jitteredTtl(Duration ttl) {
+        double jitter = properties.getRefreshAhead().getJitter();
+        return (key, value) -> ttl.minusMillis((long) (ttl.toMillis() * jitter * ThreadLocalRandom.current().nextDouble()));
     }
 
     @Bean
@@ -104,10 +165,29 @@ public class CacheConfig {
     }
 
     private ClientHttpRequestFactory clientHttpRequestFactory() {
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
-        factory.setConnectTimeout((int) properties.getReferenceManager().getTimeout().toMillis());
-        factory.setConnectionRequestTimeout((int) properties.getReferenceManager().getTimeout().toMillis());
-        factory.setReadTimeout((int) properties.getReferenceManager().getTimeout().toMillis());
+        FlightServiceProperties.ReferenceManager referenceManager = properties.getReferenceManager();
+        FlightServiceProperties.ReferenceManager.Pool pool = referenceManager.getPool();
+        Timeout timeout = Timeout.of(referenceManager.getTimeout());
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(pool.getMaxTotal())
+                .setMaxConnPerRoute(pool.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout)
+                        .setSocketTimeout(timeout)
+                        .setTimeToLive(TimeValue.of(pool.getTimeToLive()))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(pool.getIdleTimeout()))
+                .build();
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectionRequestTimeout((int) referenceManager.getTimeout().toMillis());
+        factory.setReadTimeout((int) referenceManager.getTimeout().toMillis());
         return factory;
     }
-}
\ No newline at end of file
+}
@@ -2,20 +2,37 @@ package com.flightmanagement.flight.config;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @Data
 @Component
 @ConfigurationProperties(prefix = "app")
 public class FlightServiceProperties {
 
+    // Unique per running instance and stable across its restarts; see InstanceIdentity
+    private String instanceId;
     private Jwt jwt = new Jwt();
     private Kafka kafka = new Kafka();
     private Redis redis = new Redis();
+    private NearCache nearCache = new NearCache();
+    private SingleFlight singleFlight = new SingleFlight();
+    private RefreshAhead refreshAhead = new RefreshAhead();
+    private NegativeCache negativeCache = new NegativeCache();
+    private CacheGeneration cacheGeneration = new CacheGeneration();
+    private CacheCodec cacheCodec = new CacheCodec();
     private FileUpload fileUpload = new FileUpload();
     private ReferenceManager referenceManager = new ReferenceManager();
+    private ReferenceSync referenceSync = new ReferenceSync();
+    private Revalidation revalidation = new Revalidation();
+    private Gate gate = new Gate();
+    private Analytics analytics = new Analytics();
+    private LiveBoard liveBoard = new LiveBoard();
+    private WebSocket webSocket = new WebSocket();
 
     @Data
     public static class Jwt {
@@ -40,13 +57,62 @@ public class FlightServiceProperties {
 
         @Data
         public static class Ttl {
+            // Plain numbers in application.yml are seconds
+            @DurationUnit(ChronoUnit.SECONDS)
             private Duration airlines = Duration.ofHours(2);
+            @DurationUnit(ChronoUnit.SECONDS)
             private Duration stations = Duration.ofHours(4);
+            @DurationUnit(ChronoUnit.SECONDS)
             private Duration aircraft = Duration.ofHours(1);
+            @DurationUnit(ChronoUnit.SECONDS)
             private Duration flightLookups = Duration.ofMinutes(30);
         }
     }
 
+    @Data
+    public static class NearCache {
+        private boolean enabled = true;
+        private long maximumSize = 10000;
+        private Duration ttl = Duration.ofMinutes(10);
+        private List<String> caches = List.of("airlines", "airlines-by-code", "stations", "stations-by-icao",
+                "stations-by-iata", "aircraft", "aircraft-by-type");
+    }
+
+    @Data
+    public static class RefreshAhead {
+        private boolean enabled = true;
+        // Share of the TTL after which a read triggers a background refresh
+        private double fraction = 0.8;
+        // Random share taken off refresh thresholds and Redis TTLs to spread expiries
+        private double jitter = 0.1;
+    }
+
+    @Data
+    public static class NegativeCache {
+        private boolean enabled = true;
+        private long maximumSize = 10000;
+        private Duration ttl = Duration.ofMinutes(2);
+    }
+
+    @Data
+    public static class CacheGeneration {
+        private Duration refreshInterval = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class CacheCodec {
+        // binary or json; both share the versioned envelope
+        private String type = "binary";
+    }
+
+    @Data
+    public static class SingleFlight {
+        private boolean crossNode = true;
+        private Duration leaseTtl = Duration.ofSeconds(5);
+        private Duration leaseWait = Duration.ofSeconds(2);
+        private Duration pollInterval = Duration.ofMillis(50);
+    }
+
     @Data
     public static class FileUpload {
         private long maxSize = 10485760; // 10MB
@@ -60,5 +126,96 @@ public class FlightServiceProperties {
         private Duration timeout = Duration.ofSeconds(5);
         private int retryAttempts = 3;
         private Duration retryDelay = Duration.ofSeconds(1);
+        // Overall budget for the parallel reference lookups of one flight
+        private Duration lookupDeadline = Duration.ofSeconds(2);
+        private Pool pool = new Pool();
+
+        @Data
+        public static class Pool {
+            private int maxTotal = 100;
+            // Per-flight lookups fan out four wide, so this bounds concurrent enrichments against reference-manager
+            private int maxPerRoute = 40;
+            private Duration idleTimeout = Duration.ofSeconds(30);
+            private Duration timeToLive = Duration.ofMinutes(5);
+        }
+    }
+
+    @Data
+    public static class ReferenceSync {
+        private boolean enabled = true;
+        private Duration checkInterval = Duration.ofMinutes(5);
+        // How long a missing change version may stay missing before it counts as lost
+        private Duration gapTimeout = Duration.ofSeconds(30);
+    }
+
+    @Data
+    public static class Revalidation {
+        private boolean enabled = true;
+        private String cron = "0 15 * * * *";
+        private int windowDays = 30;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        // Longer than any run; a crashed holder only blocks other instances until it expires
+        private Duration leaseTtl = Duration.ofMinutes(30);
+    }
+
+    @Data
+    public static class Gate {
+        private Duration occupancyBeforeDeparture = Duration.ofMinutes(45);
+        private Duration occupancyAfterDeparture = Duration.ofMinutes(15);
+        // Bounds how long a write made on another instance can go unseen by conflict checks here
+        private Duration reseedInterval = Duration.ofMinutes(1);
+        private Duration dayExpiry = Duration.ofHours(6);
+    }
+
+    @Data
+    public static class Analytics {
+        // Counters per (day, airline) sketch; exact while a day has fewer distinct routes or reasons
+        private int sketchCapacity = 64;
+        private int topN = 3;
+        private Duration reseedInterval = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class LiveBoard {
+        // Bounds how long a board can miss writes made on another instance
+        private Duration maxAge = Duration.ofSeconds(5);
+        private long maximumSize = 1000;
+        private boolean gzip = true;
+    }
+
+    @Data
+    public static class WebSocket {
+        // When off, every flight update is sent at once as a frame of its own (still a sequenced frame)
+        private boolean coalesce = true;
+        private Duration batchWindow = Duration.ofMillis(250);
+        // Recent frames kept per topic for clients resuming after a reconnect
+        private int replayCapacity = 256;
+        private long replayTopics = 1000;
+        // local delivers to this instance only; redis fans batches out to every instance
+        private String relay = "local";
+        private String relayChannel = "flight-service:websocket-frames";
+        // How often instances share the destinations their clients subscribe to
+        private Duration interestRefresh = Duration.ofSeconds(2);
+        // Frames for a destination are still buffered this long after its last subscriber left
+        private Duration resumeGrace = Duration.ofMinutes(2);
+        private Session session = new Session();
+
+        @Data
+        public static class Session {
+            // Messages accepted for a session but not yet written to its socket
+            private int maxPending = 200;
+            private Policy policy = Policy.DROP;
+            private Duration snapshotInterval = Duration.ofSeconds(5);
+            private Duration maxDegraded = Duration.ofSeconds(30);
+            private Duration sendTimeLimit = Duration.ofSeconds(10);
+            private int sendBufferSizeLimit = 512 * 1024;
+
+            public enum Policy {
+                // Skip feed frames and let the client resume
+                DROP,
+                // Send periodic resync markers instead
+                SNAPSHOT
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.flightmanagement.flight.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Stable name of this instance, for state that must be per instance yet survive restarts, such as
+ * Kafka groups that every instance joins on its own. {@code app.instance-id} wins when set; otherwise
+ * the host name and server port are used, so instances sharing a host still differ.
+ */
+@Component
+@Getter
+@Slf4j
+public class InstanceIdentity {
+
+    private final String id;
+
+    public InstanceIdentity(FlightServiceProperties properties, @Value("${server.port:8080}") int port) {
+        this.id = StringUtils.hasText(properties.getInstanceId())
+                ? properties.getInstanceId().trim()
+                : hostName() + "-" + port;
+        log.info("Running as instance {}", id);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Cannot determine the host name for the instance id, set INSTANCE_ID", e);
+        }
+    }
+}
@@ -1,9 +1,26 @@
 package com.flightmanagement.flight.config;
 
+import com.flightmanagement.flight.websocket.RedisFrameRelay;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
-    // Redis-specific configurations can be added here if needed
     // The redisTemplate bean is already defined in CacheConfig
-} 
\ No newline at end of file
+
+    @Bean
+    @ConditionalOnProperty(name = "app.web-socket.relay", havingValue = "redis")
+    public RedisMessageListenerContainer webSocketRelayListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                         RedisFrameRelay frameRelay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        // Delivering on the subscription thread keeps batches in publish order
+        container.setTaskExecutor(new SyncTaskExecutor());
+        container.addMessageListener(frameRelay, frameRelay.getTopics());
+        return container;
+    }
+}
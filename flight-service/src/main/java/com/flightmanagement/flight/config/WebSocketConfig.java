@@ -1,15 +1,25 @@
 package com.flightmanagement.flight.config;
 
+import com.flightmanagement.flight.security.StompAuthChannelInterceptor;
+import com.flightmanagement.flight.websocket.SessionSendGuard;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final FlightServiceProperties properties;
+    private final SessionSendGuard sessionSendGuard;
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic", "/queue");
@@ -22,4 +32,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        FlightServiceProperties.WebSocket.Session session = properties.getWebSocket().getSession();
+        // A single send blocked past the time limit, or a send buffer past its size, closes the session
+        registration.setSendTimeLimit((int) session.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit(session.getSendBufferSizeLimit())
+                .addDecoratorFactory(sessionSendGuard::decorate);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(sessionSendGuard);
+    }
+}
@@ -0,0 +1,112 @@
+package com.flightmanagement.flight.controller;
+
+import com.flightmanagement.flight.dto.websocket.FeedResumeMessage;
+import com.flightmanagement.flight.exception.UnauthorizedFlightAccessException;
+import com.flightmanagement.flight.security.UserContext;
+import com.flightmanagement.flight.service.LiveBoardCache;
+import com.flightmanagement.flight.websocket.TopicSequencer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Catch-up for live feed subscribers. After subscribing to a feed topic again, a client subscribes once to
+ * the matching {@code /app/resume/...} destination with {@code stream} and {@code last-seq} headers and gets
+ * the frames it missed, or the current live board when they are gone. Frames with a sequence at or below
+ * the returned {@code seq} can be ignored.
+ *
+ * <p>The session must have connected with a JWT of an admin or airline user, and airline users are scoped to
+ * their own airline the same way as the REST live board.
+ */
+@Controller
+@RequiredArgsConstructor
+public class FlightFeedController {
+
+    private static final String STREAM_HEADER = "stream";
+    private static final String LAST_SEQ_HEADER = "last-seq";
+
+    private final TopicSequencer topicSequencer;
+    private final LiveBoardCache liveBoardCache;
+
+    @SubscribeMapping("/resume/airlines/{airlineId}/flights")
+    public FeedResumeMessage resumeAirlineFeed(
+            @DestinationVariable Long airlineId,
+            @Header(name = STREAM_HEADER, required = false) String stream,
+            @Header(name = LAST_SEQ_HEADER, required = false) Long lastSeq,
+            Principal principal) {
+
+        UserContext userContext = resolveUser(principal);
+        if (!userContext.canAccessAirline(airlineId)) {
+            throw new UnauthorizedFlightAccessException("Cannot access flights from different airline");
+        }
+        return resume("/topic/airlines/" + airlineId + "/flights", airlineId, stream, lastSeq);
+    }
+
+    @SubscribeMapping("/resume/dashboard")
+    public FeedResumeMessage resumeDashboardFeed(
+            @Header(name = STREAM_HEADER, required = false) String stream,
+            @Header(name = LAST_SEQ_HEADER, required = false) Long lastSeq,
+            Principal principal) {
+
+        UserContext userContext = resolveUser(principal);
+        if (userContext.isAirlineUser()) {
+            // Dashboard frames carry every airline, so airline users always resume from their own board
+            return resume("/topic/dashboard", userContext.getAirlineId(), stream, null);
+        }
+        return resume("/topic/dashboard", null, stream, lastSeq);
+    }
+
+    private FeedResumeMessage resume(String destination, Long airlineId, String stream, Long lastSeq) {
+        TopicSequencer.Replay replay = topicSequencer.replay(destination, stream, lastSeq);
+        if (replay.frames() != null) {
+            return FeedResumeMessage.builder()
+                    .stream(replay.stream())
+                    .seq(replay.seq())
+                    .snapshot(false)
+                    .frames(joinFrames(replay.frames()))
+                    .build();
+        }
+
+        // Every client falling back after a reconnect shares the same encoded board, as long as it was queried
+        // after the last frame; a relayed write from another instance does not invalidate it here
+        LiveBoardCache.LiveBoard board = replay.seq() > 0
+                ? liveBoardCache.getBoardBuiltAfter(LocalDate.now(), airlineId, replay.deliveredAt())
+                : liveBoardCache.getBoard(LocalDate.now(), airlineId);
+        return FeedResumeMessage.builder()
+                .stream(replay.stream())
+                .seq(replay.seq())
+                .snapshot(true)
+                .board(new String(board.json(), StandardCharsets.UTF_8))
+                .boardVersion(board.version())
+                .build();
+    }
+
+    private static UserContext resolveUser(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof UserContext userContext
+                && (userContext.isAdmin() || userContext.isAirlineUser())) {
+            return userContext;
+        }
+        throw new AccessDeniedException("Live feed resume requires an admin or airline user");
+    }
+
+    private static String joinFrames(List<byte[]> frames) {
+        StringBuilder joined = new StringBuilder("[");
+        for (int i = 0; i < frames.size(); i++) {
+            if (i > 0) {
+                joined.append(',');
+            }
+            joined.append(new String(frames.get(i), StandardCharsets.UTF_8));
+        }
+        return joined.append(']').toString();
+    }
+}
@@ -2,25 +2,32 @@ package com.flightmanagement.flight.controller;
 
 import com.flightmanagement.flight.dto.request.FlightStatusUpdateRequestDto;
 import com.flightmanagement.flight.dto.response.DashboardOverviewDto;
-import com.flightmanagement.flight.dto.response.LiveFlightStatusDto;
 import com.flightmanagement.flight.dto.response.OperationalFlightResponseDto;
 import com.flightmanagement.flight.security.UserContext;
 import com.flightmanagement.flight.service.FlightStatusService;
+import com.flightmanagement.flight.service.LiveBoardCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/flights")
 @RequiredArgsConstructor
 public class FlightStatusController {
 
+    private static final String BOARD_VERSION_HEADER = "X-Board-Version";
+
     private final FlightStatusService flightStatusService;
 
     @PatchMapping("/{id}/status")
@@ -35,26 +42,64 @@ public class FlightStatusController {
     }
 
     @GetMapping("/live")
-    public ResponseEntity<List<LiveFlightStatusDto>> getLiveFlightStatus(
+    public ResponseEntity<byte[]> getLiveFlightStatus(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
             Authentication authentication) {
 
         UserContext userContext = (UserContext) authentication.getPrincipal();
         LocalDate targetDate = date != null ? date : LocalDate.now();
 
-        List<LiveFlightStatusDto> response = flightStatusService.getLiveFlightStatus(targetDate, userContext);
-        return ResponseEntity.ok(response);
+        LiveBoardCache.LiveBoard board = flightStatusService.getLiveBoard(targetDate, userContext);
+        boolean gzip = board.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+        String etag = gzip ? board.gzipEtag() : board.etag();
+
+        if (ifNoneMatch != null && ifNoneMatch.contains(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .header(BOARD_VERSION_HEADER, String.valueOf(board.version()))
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(BOARD_VERSION_HEADER, String.valueOf(board.version()));
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? board.gzip() : board.json());
     }
 
     @GetMapping("/dashboard")
     public ResponseEntity<DashboardOverviewDto> getDashboardOverview(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Integer top,
             Authentication authentication) {
 
         UserContext userContext = (UserContext) authentication.getPrincipal();
         LocalDate targetDate = date != null ? date : LocalDate.now();
 
-        DashboardOverviewDto response = flightStatusService.getDashboardOverview(targetDate, userContext);
+        DashboardOverviewDto response = flightStatusService.getDashboardOverview(targetDate, top, userContext);
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/dashboard/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuildDailySummaries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        LocalDate to = endDate != null ? endDate : startDate;
+        if (to.isBefore(startDate)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int rows = flightStatusService.rebuildDailySummaries(startDate, to);
+        return ResponseEntity.ok(Map.of("rebuiltRows", rows));
+    }
 }
\ No newline at end of file
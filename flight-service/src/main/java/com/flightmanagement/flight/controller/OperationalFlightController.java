@@ -1,14 +1,15 @@
 package com.flightmanagement.flight.controller;
 
+import com.flightmanagement.flight.dto.projection.FlightSummary;
+import com.flightmanagement.flight.dto.request.FlightCursor;
+import com.flightmanagement.flight.dto.request.FlightSearchCriteria;
 import com.flightmanagement.flight.dto.request.OperationalFlightCreateRequestDto;
+import com.flightmanagement.flight.dto.response.CursorPage;
 import com.flightmanagement.flight.dto.response.OperationalFlightResponseDto;
-import com.flightmanagement.flight.dto.response.PagedResponse;
 import com.flightmanagement.flight.security.UserContext;
 import com.flightmanagement.flight.service.OperationalFlightService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -19,18 +20,34 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class OperationalFlightController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OperationalFlightService flightService;
 
     @GetMapping
-    public ResponseEntity<PagedResponse<OperationalFlightResponseDto>> getFlights(
-            @RequestParam(defaultValue = "0") int page,
+    public ResponseEntity<CursorPage<OperationalFlightResponseDto>> getFlights(
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            Authentication authentication) {
+
+        UserContext userContext = (UserContext) authentication.getPrincipal();
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        CursorPage<OperationalFlightResponseDto> response = flightService.getFlights(
+                FlightCursor.decode(cursor), pageSize, includeTotal, userContext);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<FlightSummary>> searchFlights(
+            @ModelAttribute FlightSearchCriteria criteria,
             Authentication authentication) {
 
-        Pageable pageable = PageRequest.of(page, size);
         UserContext userContext = (UserContext) authentication.getPrincipal();
+        int pageSize = Math.min(Math.max(criteria.getSize(), 1), MAX_PAGE_SIZE);
 
-        PagedResponse<OperationalFlightResponseDto> response = flightService.getFlights(pageable, userContext);
+        CursorPage<FlightSummary> response = flightService.searchFlights(criteria, pageSize, userContext);
         return ResponseEntity.ok(response);
     }
 
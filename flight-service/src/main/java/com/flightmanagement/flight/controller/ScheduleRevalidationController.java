@@ -0,0 +1,38 @@
+package com.flightmanagement.flight.controller;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.response.RevalidationResultDto;
+import com.flightmanagement.flight.service.ScheduleRevalidationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/flights")
+@RequiredArgsConstructor
+public class ScheduleRevalidationController {
+
+    private final ScheduleRevalidationService revalidationService;
+    private final FlightServiceProperties properties;
+
+    @PostMapping("/revalidate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RevalidationResultDto> revalidateSchedule(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        LocalDate from = startDate != null ? startDate : LocalDate.now();
+        LocalDate to = endDate != null ? endDate : from.plusDays(properties.getRevalidation().getWindowDays() - 1L);
+
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        RevalidationResultDto response = revalidationService.revalidate(from, to);
+        return ResponseEntity.ok(response);
+    }
+}
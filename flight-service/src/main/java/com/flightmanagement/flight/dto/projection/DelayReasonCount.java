@@ -0,0 +1,7 @@
+package com.flightmanagement.flight.dto.projection;
+
+public record DelayReasonCount(
+        Long airlineId,
+        String delayReason,
+        Long count) {
+}
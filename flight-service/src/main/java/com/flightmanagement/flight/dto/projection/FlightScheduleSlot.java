@@ -0,0 +1,14 @@
+package com.flightmanagement.flight.dto.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record FlightScheduleSlot(
+        Long id,
+        String flightNumber,
+        Long aircraftId,
+        Long originStationId,
+        LocalDate flightDate,
+        LocalTime scheduledDepartureTime,
+        LocalTime scheduledArrivalTime) {
+}
@@ -0,0 +1,20 @@
+package com.flightmanagement.flight.dto.projection;
+
+import com.flightmanagement.flight.enums.FlightStatus;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record FlightSummary(
+        Long id,
+        String flightNumber,
+        String airlineCode,
+        LocalDate flightDate,
+        LocalTime scheduledDepartureTime,
+        LocalTime scheduledArrivalTime,
+        String originIcaoCode,
+        String destinationIcaoCode,
+        String gate,
+        Integer departureDelay,
+        FlightStatus status) {
+}
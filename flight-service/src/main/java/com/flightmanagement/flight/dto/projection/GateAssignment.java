@@ -0,0 +1,16 @@
+package com.flightmanagement.flight.dto.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public record GateAssignment(
+        Long id,
+        String flightNumber,
+        Long originStationId,
+        LocalDate flightDate,
+        LocalTime scheduledDepartureTime,
+        LocalTime actualDepartureTime,
+        Integer departureDelay,
+        String terminal,
+        String gate) {
+}
@@ -0,0 +1,8 @@
+package com.flightmanagement.flight.dto.projection;
+
+public record RouteCount(
+        Long airlineId,
+        String originIcaoCode,
+        String destinationIcaoCode,
+        Long count) {
+}
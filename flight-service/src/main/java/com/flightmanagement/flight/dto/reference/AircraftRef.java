@@ -0,0 +1,24 @@
+package com.flightmanagement.flight.dto.reference;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.Map;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AircraftRef(Long id, String type, String manufacturer, String model, Integer capacity,
+                          Boolean isActive) {
+
+    public static AircraftRef from(Map<?, ?> data) {
+        return new AircraftRef(
+                ReferenceFields.longValue(data, "id"),
+                ReferenceFields.string(data, "type"),
+                ReferenceFields.string(data, "manufacturer"),
+                ReferenceFields.string(data, "model"),
+                ReferenceFields.intValue(data, "capacity"),
+                ReferenceFields.bool(data, "isActive"));
+    }
+
+    public static AircraftRef unknown(Long id) {
+        return new AircraftRef(id, "Unknown", "Unknown", "Unknown", 150, true);
+    }
+}
@@ -0,0 +1,22 @@
+package com.flightmanagement.flight.dto.reference;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.Map;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AirlineRef(Long id, String code, String name, String country, Boolean isActive) {
+
+    public static AirlineRef from(Map<?, ?> data) {
+        return new AirlineRef(
+                ReferenceFields.longValue(data, "id"),
+                ReferenceFields.string(data, "code"),
+                ReferenceFields.string(data, "name"),
+                ReferenceFields.string(data, "country"),
+                ReferenceFields.bool(data, "isActive"));
+    }
+
+    public static AirlineRef unknown(Long id) {
+        return new AirlineRef(id, "XX", "Unknown Airline", "Unknown", true);
+    }
+}
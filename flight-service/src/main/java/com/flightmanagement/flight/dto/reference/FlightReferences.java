@@ -0,0 +1,8 @@
+package com.flightmanagement.flight.dto.reference;
+
+/**
+ * Reference data of one flight. A component is {@code null} when the lookup found nothing,
+ * failed or missed the deadline.
+ */
+public record FlightReferences(AirlineRef airline, AircraftRef aircraft, StationRef origin, StationRef destination) {
+}
@@ -0,0 +1,33 @@
+package com.flightmanagement.flight.dto.reference;
+
+import java.util.Map;
+
+/**
+ * Reads reference fields out of untyped payloads such as Kafka event data.
+ */
+final class ReferenceFields {
+
+    private ReferenceFields() {
+    }
+
+    static Long longValue(Map<?, ?> data, String field) {
+        return data.get(field) instanceof Number number ? number.longValue() : null;
+    }
+
+    static Integer intValue(Map<?, ?> data, String field) {
+        return data.get(field) instanceof Number number ? number.intValue() : null;
+    }
+
+    static String string(Map<?, ?> data, String field) {
+        Object value = data.get(field);
+        return value != null ? value.toString() : null;
+    }
+
+    static Boolean bool(Map<?, ?> data, String field) {
+        Object value = data.get(field);
+        if (value instanceof Boolean flag) {
+            return flag;
+        }
+        return value != null ? Boolean.valueOf(value.toString()) : null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.flightmanagement.flight.dto.reference;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ReferenceSnapshot {
+
+    private long version;
+    private List<AirlineRef> airlines = new ArrayList<>();
+    private List<StationRef> stations = new ArrayList<>();
+    private List<AircraftRef> aircraft = new ArrayList<>();
+}
@@ -0,0 +1,5 @@
+package com.flightmanagement.flight.dto.reference;
+
+public record ReferenceTuple(String airlineCode, String aircraftType, String originIcaoCode,
+                             String destinationIcaoCode) {
+}
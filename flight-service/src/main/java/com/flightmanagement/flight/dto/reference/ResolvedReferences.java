@@ -0,0 +1,38 @@
+package com.flightmanagement.flight.dto.reference;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reference data resolved in one call, keyed by upper-cased airline code, aircraft type and ICAO code.
+ * A missing key means reference-manager does not know the code.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResolvedReferences {
+
+    private Map<String, AirlineRef> airlines = new HashMap<>();
+    private Map<String, AircraftRef> aircraft = new HashMap<>();
+    private Map<String, StationRef> stations = new HashMap<>();
+
+    public AirlineRef getAirline(String code) {
+        return airlines.get(normalize(code));
+    }
+
+    public AircraftRef getAircraftByType(String type) {
+        return aircraft.get(normalize(type));
+    }
+
+    public StationRef getStation(String icaoCode) {
+        return stations.get(normalize(icaoCode));
+    }
+
+    private static String normalize(String code) {
+        return code != null ? code.trim().toUpperCase() : null;
+    }
+}
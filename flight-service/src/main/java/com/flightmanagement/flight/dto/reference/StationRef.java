@@ -0,0 +1,26 @@
+package com.flightmanagement.flight.dto.reference;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.Map;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record StationRef(Long id, String icaoCode, String iataCode, String name, String city, String country,
+                         String timezone, Boolean isActive) {
+
+    public static StationRef from(Map<?, ?> data) {
+        return new StationRef(
+                ReferenceFields.longValue(data, "id"),
+                ReferenceFields.string(data, "icaoCode"),
+                ReferenceFields.string(data, "iataCode"),
+                ReferenceFields.string(data, "name"),
+                ReferenceFields.string(data, "city"),
+                ReferenceFields.string(data, "country"),
+                ReferenceFields.string(data, "timezone"),
+                ReferenceFields.bool(data, "isActive"));
+    }
+
+    public static StationRef unknown(Long id) {
+        return new StationRef(id, "XXXX", null, "Unknown Station", "Unknown", "Unknown", null, true);
+    }
+}
@@ -0,0 +1,44 @@
+package com.flightmanagement.flight.dto.request;
+
+import com.flightmanagement.flight.entity.OperationalFlight;
+import com.flightmanagement.flight.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page in (flightDate, scheduledDepartureTime, id) order.
+ * Clients only ever see the encoded token.
+ */
+public record FlightCursor(LocalDate flightDate, LocalTime scheduledDepartureTime, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static FlightCursor after(OperationalFlight flight) {
+        return new FlightCursor(flight.getFlightDate(), flight.getScheduledDepartureTime(), flight.getId());
+    }
+
+    public static FlightCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR);
+            if (parts.length != 3) {
+                throw new InvalidCursorException("Malformed cursor");
+            }
+            return new FlightCursor(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = flightDate + SEPARATOR + scheduledDepartureTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
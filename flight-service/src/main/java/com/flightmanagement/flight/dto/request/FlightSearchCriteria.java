@@ -16,6 +16,6 @@ public class FlightSearchCriteria {
     private FlightStatus status;
     private String originIcaoCode;
     private String destinationIcaoCode;
-    private int page = 0;
+    private String cursor;
     private int size = 20;
 }
\ No newline at end of file
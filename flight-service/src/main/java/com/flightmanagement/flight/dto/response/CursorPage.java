@@ -0,0 +1,21 @@
+package com.flightmanagement.flight.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. {@code nextCursor} is passed back unchanged to fetch the
+ * following page; {@code totalElements} is only filled in when the caller asked for it.
+ */
+@Data
+@Builder
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalElements;
+}
@@ -21,5 +21,6 @@ public class DashboardOverviewDto {
     private Double onTimePerformance;
     private Integer activeAirlines;
     private String busiestRoute;
+    private List<RankedCountDto> topRoutes;
     private List<String> topDelayReasons;
 }
\ No newline at end of file
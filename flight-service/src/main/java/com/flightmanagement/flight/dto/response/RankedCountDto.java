@@ -0,0 +1,4 @@
+package com.flightmanagement.flight.dto.response;
+
+public record RankedCountDto(String key, long count) {
+}
@@ -0,0 +1,19 @@
+package com.flightmanagement.flight.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class RevalidationResultDto {
+
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer flightsChecked;
+    private Integer openConflicts;
+    private Integer newConflicts;
+    private Integer clearedConflicts;
+    private Long durationMs;
+}
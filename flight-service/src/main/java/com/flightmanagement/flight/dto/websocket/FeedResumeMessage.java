@@ -0,0 +1,22 @@
+package com.flightmanagement.flight.dto.websocket;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FeedResumeMessage {
+
+    private String stream;
+    private Long seq;
+    private Boolean snapshot;
+    // Already encoded JSON, embedded as is
+    @JsonRawValue
+    private String frames;
+    @JsonRawValue
+    private String board;
+    private Long boardVersion;
+}
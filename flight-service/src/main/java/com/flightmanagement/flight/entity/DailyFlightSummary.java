@@ -0,0 +1,60 @@
+package com.flightmanagement.flight.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Running totals of the active flights of one airline on one day, kept current by
+ * {@link com.flightmanagement.flight.service.DailySummaryService} on every flight write.
+ */
+@Entity
+@Table(name = "daily_flight_summaries",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"flight_date", "airline_id"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyFlightSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "flight_date", nullable = false)
+    private LocalDate flightDate;
+
+    @Column(name = "airline_id", nullable = false)
+    private Long airlineId;
+
+    @Column(name = "total_flights", nullable = false)
+    private Integer totalFlights;
+
+    @Column(name = "scheduled_flights", nullable = false)
+    private Integer scheduledFlights;
+
+    @Column(name = "departed_flights", nullable = false)
+    private Integer departedFlights;
+
+    @Column(name = "arrived_flights", nullable = false)
+    private Integer arrivedFlights;
+
+    @Column(name = "delayed_flights", nullable = false)
+    private Integer delayedFlights;
+
+    @Column(name = "cancelled_flights", nullable = false)
+    private Integer cancelledFlights;
+
+    @Column(name = "arrival_delay_minutes", nullable = false)
+    private Long arrivalDelayMinutes;
+
+    @Column(name = "late_arrivals", nullable = false)
+    private Integer lateArrivals;
+
+    @Column(name = "on_time_arrivals", nullable = false)
+    private Integer onTimeArrivals;
+}
@@ -1,5 +1,6 @@
 package com.flightmanagement.flight.entity;
 
+import com.flightmanagement.flight.enums.ConflictSource;
 import com.flightmanagement.flight.enums.ConflictType;
 import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
 import jakarta.persistence.*;
@@ -11,6 +12,7 @@ import org.hibernate.annotations.Type;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -26,12 +28,23 @@ public class FlightConflict {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "upload_batch_id", nullable = false)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 20)
+    @Builder.Default
+    private ConflictSource source = ConflictSource.UPLOAD;
+
+    @Column(name = "upload_batch_id")
     private Long uploadBatchId;
 
-    @Column(name = "row_number", nullable = false)
+    @Column(name = "row_number")
     private Integer rowNumber;
 
+    @Column(name = "operational_flight_id")
+    private Long operationalFlightId;
+
+    @Column(name = "flight_date")
+    private LocalDate flightDate;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "conflict_type", nullable = false)
     private ConflictType conflictType;
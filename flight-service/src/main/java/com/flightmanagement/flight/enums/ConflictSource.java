@@ -0,0 +1,6 @@
+package com.flightmanagement.flight.enums;
+
+public enum ConflictSource {
+    UPLOAD,
+    REVALIDATION
+}
@@ -4,5 +4,6 @@ public enum ConflictType {
     AIRCRAFT_DOUBLE_BOOKING,
     FLIGHT_NUMBER_DUPLICATE,
     SLOT_CONFLICT,
-    TIME_OVERLAP
+    TIME_OVERLAP,
+    GATE_CONFLICT
 }
\ No newline at end of file
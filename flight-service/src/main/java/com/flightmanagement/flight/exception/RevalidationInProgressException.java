@@ -0,0 +1,7 @@
+package com.flightmanagement.flight.exception;
+
+public class RevalidationInProgressException extends RuntimeException {
+    public RevalidationInProgressException(String message) {
+        super(message);
+    }
+}
@@ -1,13 +1,16 @@
 package com.flightmanagement.flight.listener;
 
+import com.flightmanagement.flight.cache.NegativeReferenceCache;
+import com.flightmanagement.flight.cache.ReferenceCache;
+import com.flightmanagement.flight.service.ReferenceDataStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.cache.CacheManager;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.Objects;
 
 @Component
 @RequiredArgsConstructor
@@ -15,9 +18,13 @@ import java.util.Map;
 @ConditionalOnProperty(name = "spring.kafka.bootstrap-servers")
 public class ReferenceDataEventListener {
 
-    private final CacheManager cacheManager;
+    private final ReferenceCache referenceCache;
+    private final ReferenceDataStore referenceDataStore;
+    private final NegativeReferenceCache negativeCache;
 
-    @KafkaListener(topics = "reference.events", groupId = "flight-service-group")
+    // Every instance needs every event to drop its own near cache entries, so each node consumes with its own group.
+    // The group id stays the same across restarts of an instance, so restarts do not leave stale groups behind.
+    @KafkaListener(topics = "reference.events", groupId = "flight-service-cache-#{@instanceIdentity.id}")
     public void handleReferenceEvent(Map<String, Object> event) {
         try {
             String eventType = (String) event.get("eventType");
@@ -26,16 +33,23 @@ public class ReferenceDataEventListener {
 
             log.info("Received reference event: {} for {} with id: {}", eventType, entityType, entityId);
 
+            referenceDataStore.applyChange(event);
+            invalidateNegativeEntries(entityType, event.get("data"));
+
             // Invalidate cache based on entity type
             switch (entityType) {
                 case "AIRLINE":
                     invalidateCache("airlines", entityId);
+                    invalidateCodes("airlines-by-code", "code", event);
                     break;
                 case "STATION":
                     invalidateCache("stations", entityId);
+                    invalidateCodes("stations-by-icao", "icaoCode", event);
+                    invalidateCodes("stations-by-iata", "iataCode", event);
                     break;
                 case "AIRCRAFT":
                     invalidateCache("aircraft", entityId);
+                    invalidateCodes("aircraft-by-type", "type", event);
                     break;
             }
 
@@ -45,10 +59,54 @@ public class ReferenceDataEventListener {
     }
 
     private void invalidateCache(String cacheName, Long entityId) {
-        var cache = cacheManager.getCache(cacheName);
-        if (cache != null) {
-            cache.evict(entityId);
-            log.debug("Evicted cache entry: {}:{}", cacheName, entityId);
+        referenceCache.evict(cacheName, entityId);
+        log.debug("Evicted cache entry: {}:{}", cacheName, entityId);
+    }
+
+    // Code-keyed entries are evicted under the code before and after the change. Only an event that does not carry
+    // both, such as an update from a publisher without previousData, drops the cache as a whole.
+    private void invalidateCodes(String cacheName, String codeField, Map<String, Object> event) {
+        Object data = event.get("data");
+        Object previousData = event.get("previousData");
+        boolean previousKnown = previousData instanceof Map<?, ?> || !"UPDATED".equals(event.get("eventType"));
+        if (!(data instanceof Map<?, ?> entity) || !previousKnown) {
+            clearCache(cacheName);
+            return;
+        }
+
+        Object code = entity.get(codeField);
+        evictCode(cacheName, code);
+        if (previousData instanceof Map<?, ?> previous && !Objects.equals(previous.get(codeField), code)) {
+            evictCode(cacheName, previous.get(codeField));
+        }
+    }
+
+    private void evictCode(String cacheName, Object code) {
+        if (code != null) {
+            referenceCache.evict(cacheName, code);
+            log.debug("Evicted cache entry: {}:{}", cacheName, code);
+        }
+    }
+
+    private void clearCache(String cacheName) {
+        referenceCache.clear(cacheName);
+        log.debug("Cleared cache: {}", cacheName);
+    }
+
+    // A created or re-coded entity can make a code valid that was cached as unknown
+    private void invalidateNegativeEntries(String entityType, Object data) {
+        if (!(data instanceof Map<?, ?> entity)) {
+            return;
+        }
+        switch (entityType) {
+            case "AIRLINE" -> negativeCache.invalidate("airlines-by-code", entity.get("code"));
+            case "STATION" -> {
+                negativeCache.invalidate("stations-by-icao", entity.get("icaoCode"));
+                negativeCache.invalidate("stations-by-iata", entity.get("iataCode"));
+            }
+            case "AIRCRAFT" -> negativeCache.invalidate("aircraft-by-type", entity.get("type"));
+            default -> {
+            }
         }
     }
 }
\ No newline at end of file
@@ -1,19 +1,23 @@
 package com.flightmanagement.flight.mapper;
 
+import com.flightmanagement.flight.dto.reference.FlightReferences;
 import com.flightmanagement.flight.dto.request.OperationalFlightCreateRequestDto;
 import com.flightmanagement.flight.dto.response.OperationalFlightResponseDto;
 import com.flightmanagement.flight.entity.OperationalFlight;
-import com.flightmanagement.flight.service.FlightEnrichmentService;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+/**
+ * Pure mapping between DTOs and entities. Reference data is resolved by the caller and passed in,
+ * so nothing here goes to the network.
+ */
 @Component
-@RequiredArgsConstructor
 public class OperationalFlightMapperImpl {
 
-    private final FlightEnrichmentService enrichmentService;
-
     public OperationalFlight toEntity(OperationalFlightCreateRequestDto dto) {
+        return toEntity(dto, null);
+    }
+
+    public OperationalFlight toEntity(OperationalFlightCreateRequestDto dto, FlightReferences references) {
         if (dto == null) {
             return null;
         }
@@ -32,8 +36,9 @@ public class OperationalFlightMapperImpl {
                 .flightType(dto.getFlightType())
                 .build();
 
-        // Enrich with reference data
-        enrichmentService.enrichOperationalFlight(flight, dto);
+        if (references != null) {
+            applyReferences(flight, references);
+        }
 
         return flight;
     }
@@ -70,7 +75,8 @@ public class OperationalFlightMapperImpl {
         return dto;
     }
 
-    public void updateEntityFromDto(OperationalFlightCreateRequestDto dto, OperationalFlight flight) {
+    public void updateEntityFromDto(OperationalFlightCreateRequestDto dto, OperationalFlight flight,
+                                    FlightReferences references) {
         if (dto == null || flight == null) {
             return;
         }
@@ -87,7 +93,27 @@ public class OperationalFlightMapperImpl {
         flight.setTerminal(dto.getTerminal());
         flight.setFlightType(dto.getFlightType());
 
-        // Re-enrich with updated reference data
-        enrichmentService.enrichOperationalFlight(flight, dto);
+        if (references != null) {
+            applyReferences(flight, references);
+        }
+    }
+
+    // Denormalized codes and names; unresolved references get the same placeholders as before
+    private void applyReferences(OperationalFlight flight, FlightReferences references) {
+        if (references.airline() != null) {
+            flight.setAirlineCode(references.airline().code());
+            flight.setAirlineName(references.airline().name());
+        } else {
+            if (flight.getAirlineCode() == null) {
+                flight.setAirlineCode("XX");
+            }
+            if (flight.getAirlineName() == null) {
+                flight.setAirlineName("Unknown Airline");
+            }
+        }
+
+        flight.setAircraftType(references.aircraft() != null ? references.aircraft().type() : "Unknown");
+        flight.setOriginIcaoCode(references.origin() != null ? references.origin().icaoCode() : "XXXX");
+        flight.setDestinationIcaoCode(references.destination() != null ? references.destination().icaoCode() : "YYYY");
     }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.flightmanagement.flight.repository;
+
+import com.flightmanagement.flight.entity.DailyFlightSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DailyFlightSummaryRepository extends JpaRepository<DailyFlightSummary, Long> {
+
+    List<DailyFlightSummary> findByFlightDate(LocalDate flightDate);
+
+    Optional<DailyFlightSummary> findByFlightDateAndAirlineId(LocalDate flightDate, Long airlineId);
+
+    // Adds the deltas in place; concurrent writers to the same row serialize on its lock and their deltas commute
+    @Modifying
+    @Query(value = "INSERT INTO daily_flight_summaries (flight_date, airline_id, total_flights, scheduled_flights, " +
+            "departed_flights, arrived_flights, delayed_flights, cancelled_flights, arrival_delay_minutes, " +
+            "late_arrivals, on_time_arrivals) " +
+            "VALUES (:date, :airlineId, :total, :scheduled, :departed, :arrived, :delayed, :cancelled, " +
+            ":delayMinutes, :lateArrivals, :onTimeArrivals) " +
+            "ON DUPLICATE KEY UPDATE total_flights = total_flights + VALUES(total_flights), " +
+            "scheduled_flights = scheduled_flights + VALUES(scheduled_flights), " +
+            "departed_flights = departed_flights + VALUES(departed_flights), " +
+            "arrived_flights = arrived_flights + VALUES(arrived_flights), " +
+            "delayed_flights = delayed_flights + VALUES(delayed_flights), " +
+            "cancelled_flights = cancelled_flights + VALUES(cancelled_flights), " +
+            "arrival_delay_minutes = arrival_delay_minutes + VALUES(arrival_delay_minutes), " +
+            "late_arrivals = late_arrivals + VALUES(late_arrivals), " +
+            "on_time_arrivals = on_time_arrivals + VALUES(on_time_arrivals)", nativeQuery = true)
+    void addDeltas(LocalDate date, Long airlineId, int total, int scheduled, int departed, int arrived, int delayed,
+                   int cancelled, long delayMinutes, int lateArrivals, int onTimeArrivals);
+
+    @Modifying
+    @Query("DELETE FROM DailyFlightSummary s WHERE s.flightDate = :date")
+    int deleteByFlightDate(LocalDate date);
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_flight_summaries (flight_date, airline_id, total_flights, scheduled_flights, " +
+            "departed_flights, arrived_flights, delayed_flights, cancelled_flights, arrival_delay_minutes, " +
+            "late_arrivals, on_time_arrivals) " +
+            "SELECT flight_date, airline_id, COUNT(*), " +
+            "SUM(CASE WHEN status = 'SCHEDULED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN status = 'DEPARTED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN status = 'ARRIVED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN status = 'DELAYED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN status = 'CANCELLED' THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN arrival_delay > 0 THEN arrival_delay ELSE 0 END), " +
+            "SUM(CASE WHEN arrival_delay > 0 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN arrival_delay <= 15 THEN 1 ELSE 0 END) " +
+            "FROM operational_flights WHERE flight_date = :date AND is_active = true " +
+            "GROUP BY flight_date, airline_id", nativeQuery = true)
+    int insertRecomputed(LocalDate date);
+}
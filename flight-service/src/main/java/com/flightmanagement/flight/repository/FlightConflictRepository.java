@@ -1,12 +1,14 @@
 package com.flightmanagement.flight.repository;
 
 import com.flightmanagement.flight.entity.FlightConflict;
+import com.flightmanagement.flight.enums.ConflictSource;
 import com.flightmanagement.flight.enums.ConflictType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Repository
@@ -17,4 +19,7 @@ public interface FlightConflictRepository extends JpaRepository<FlightConflict,
     Page<FlightConflict> findByConflictType(ConflictType conflictType, Pageable pageable);
 
     long countByUploadBatchIdAndResolutionIsNull(Long uploadBatchId);
+
+    List<FlightConflict> findBySourceAndResolutionIsNullAndFlightDateBetween(
+            ConflictSource source, LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
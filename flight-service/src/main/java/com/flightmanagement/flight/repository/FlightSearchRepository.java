@@ -0,0 +1,16 @@
+package com.flightmanagement.flight.repository;
+
+import com.flightmanagement.flight.dto.projection.FlightSummary;
+import com.flightmanagement.flight.dto.request.FlightCursor;
+import com.flightmanagement.flight.dto.request.FlightSearchCriteria;
+
+import java.util.List;
+
+public interface FlightSearchRepository {
+
+    /**
+     * Active flights matching every criterion that is set, in (flightDate, scheduledDepartureTime, id)
+     * order starting after {@code cursor}.
+     */
+    List<FlightSummary> search(FlightSearchCriteria criteria, FlightCursor cursor, int limit);
+}
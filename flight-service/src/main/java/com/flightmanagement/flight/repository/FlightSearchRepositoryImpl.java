@@ -0,0 +1,102 @@
+package com.flightmanagement.flight.repository;
+
+import com.flightmanagement.flight.dto.projection.FlightSummary;
+import com.flightmanagement.flight.dto.request.FlightCursor;
+import com.flightmanagement.flight.dto.request.FlightSearchCriteria;
+import com.flightmanagement.flight.entity.OperationalFlight;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the search query from the criteria that are actually set. Every filter is an equality or
+ * range on an indexed column; flight numbers match by prefix so the index still applies.
+ */
+class FlightSearchRepositoryImpl implements FlightSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<FlightSummary> search(FlightSearchCriteria criteria, FlightCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FlightSummary> query = cb.createQuery(FlightSummary.class);
+        Root<OperationalFlight> flight = query.from(OperationalFlight.class);
+
+        Path<LocalDate> flightDate = flight.get("flightDate");
+        Path<LocalTime> departureTime = flight.get("scheduledDepartureTime");
+        Path<Long> id = flight.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(flight.get("isActive")));
+
+        if (criteria.getAirlineId() != null) {
+            predicates.add(cb.equal(flight.get("airlineId"), criteria.getAirlineId()));
+        }
+        if (hasText(criteria.getFlightNumber())) {
+            predicates.add(cb.like(flight.get("flightNumber"), escapeLike(normalize(criteria.getFlightNumber())) + "%",
+                    '\\'));
+        }
+        if (criteria.getFlightDate() != null) {
+            predicates.add(cb.equal(flightDate, criteria.getFlightDate()));
+        }
+        if (criteria.getStartDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(flightDate, criteria.getStartDate()));
+        }
+        if (criteria.getEndDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(flightDate, criteria.getEndDate()));
+        }
+        if (criteria.getStatus() != null) {
+            predicates.add(cb.equal(flight.get("status"), criteria.getStatus()));
+        }
+        if (hasText(criteria.getOriginIcaoCode())) {
+            predicates.add(cb.equal(flight.get("originIcaoCode"), normalize(criteria.getOriginIcaoCode())));
+        }
+        if (hasText(criteria.getDestinationIcaoCode())) {
+            predicates.add(cb.equal(flight.get("destinationIcaoCode"), normalize(criteria.getDestinationIcaoCode())));
+        }
+
+        if (cursor != null) {
+            predicates.add(cb.greaterThanOrEqualTo(flightDate, cursor.flightDate()));
+            predicates.add(cb.or(
+                    cb.greaterThan(flightDate, cursor.flightDate()),
+                    cb.and(cb.equal(flightDate, cursor.flightDate()), cb.or(
+                            cb.greaterThan(departureTime, cursor.scheduledDepartureTime()),
+                            cb.and(cb.equal(departureTime, cursor.scheduledDepartureTime()),
+                                    cb.greaterThan(id, cursor.id()))))));
+        }
+
+        query.select(cb.construct(FlightSummary.class,
+                        id, flight.get("flightNumber"), flight.get("airlineCode"), flightDate, departureTime,
+                        flight.get("scheduledArrivalTime"), flight.get("originIcaoCode"),
+                        flight.get("destinationIcaoCode"), flight.get("gate"), flight.get("departureDelay"),
+                        flight.get("status")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(flightDate), cb.asc(departureTime), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toUpperCase();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
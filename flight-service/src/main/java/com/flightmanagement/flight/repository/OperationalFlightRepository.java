@@ -1,28 +1,62 @@
 package com.flightmanagement.flight.repository;
 
+import com.flightmanagement.flight.dto.projection.DelayReasonCount;
+import com.flightmanagement.flight.dto.projection.FlightScheduleSlot;
+import com.flightmanagement.flight.dto.projection.GateAssignment;
+import com.flightmanagement.flight.dto.projection.RouteCount;
 import com.flightmanagement.flight.entity.OperationalFlight;
 import com.flightmanagement.flight.enums.FlightStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface OperationalFlightRepository extends JpaRepository<OperationalFlight, Long> {
+public interface OperationalFlightRepository extends JpaRepository<OperationalFlight, Long>, FlightSearchRepository {
 
     Page<OperationalFlight> findByAirlineId(Long airlineId, Pageable pageable);
 
+    long countByAirlineId(Long airlineId);
+
+    // Row lock for updates whose before and after state feed the daily summary counters
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM OperationalFlight f WHERE f.id = :id")
+    Optional<OperationalFlight> findByIdForUpdate(Long id);
+
+    // Keyset pages in (flightDate, scheduledDepartureTime, id) order; the leading date bound keeps it a range scan
+    @Query("SELECT f FROM OperationalFlight f ORDER BY f.flightDate, f.scheduledDepartureTime, f.id")
+    List<OperationalFlight> findFirstPage(Limit limit);
+
+    @Query("SELECT f FROM OperationalFlight f WHERE f.flightDate >= :date AND (f.flightDate > :date " +
+            "OR (f.flightDate = :date AND (f.scheduledDepartureTime > :time " +
+            "OR (f.scheduledDepartureTime = :time AND f.id > :id)))) " +
+            "ORDER BY f.flightDate, f.scheduledDepartureTime, f.id")
+    List<OperationalFlight> findPageAfter(LocalDate date, LocalTime time, Long id, Limit limit);
+
+    @Query("SELECT f FROM OperationalFlight f WHERE f.airlineId = :airlineId " +
+            "ORDER BY f.flightDate, f.scheduledDepartureTime, f.id")
+    List<OperationalFlight> findFirstPageByAirlineId(Long airlineId, Limit limit);
+
+    @Query("SELECT f FROM OperationalFlight f WHERE f.airlineId = :airlineId AND f.flightDate >= :date " +
+            "AND (f.flightDate > :date OR (f.flightDate = :date AND (f.scheduledDepartureTime > :time " +
+            "OR (f.scheduledDepartureTime = :time AND f.id > :id)))) " +
+            "ORDER BY f.flightDate, f.scheduledDepartureTime, f.id")
+    List<OperationalFlight> findPageAfterByAirlineId(Long airlineId, LocalDate date, LocalTime time, Long id,
+                                                     Limit limit);
+
     Page<OperationalFlight> findByFlightDate(LocalDate flightDate, Pageable pageable);
 
     Page<OperationalFlight> findByAirlineIdAndFlightDate(Long airlineId, LocalDate flightDate, Pageable pageable);
 
-    @Query("SELECT f FROM OperationalFlight f WHERE f.flightNumber LIKE %:flightNumber% AND f.airlineId = :airlineId")
-    Page<OperationalFlight> findByFlightNumberContainingAndAirlineId(String flightNumber, Long airlineId, Pageable pageable);
-
     boolean existsByFlightNumberAndAirlineIdAndFlightDate(String flightNumber, Long airlineId, LocalDate flightDate);
 
     List<OperationalFlight> findByAircraftIdAndFlightDate(Long aircraftId, LocalDate flightDate);
@@ -36,4 +70,29 @@ public interface OperationalFlightRepository extends JpaRepository<OperationalFl
 
     @Query("SELECT f FROM OperationalFlight f WHERE f.flightDate = CURRENT_DATE AND f.isActive = true")
     List<OperationalFlight> findTodayActiveFlights();
+
+    @Query("SELECT new com.flightmanagement.flight.dto.projection.FlightScheduleSlot(" +
+            "f.id, f.flightNumber, f.aircraftId, f.originStationId, f.flightDate, " +
+            "f.scheduledDepartureTime, f.scheduledArrivalTime) " +
+            "FROM OperationalFlight f WHERE f.flightDate = :date AND f.isActive = true AND f.status <> :excludedStatus")
+    List<FlightScheduleSlot> findScheduleSlotsByFlightDate(LocalDate date, FlightStatus excludedStatus);
+
+    @Query("SELECT new com.flightmanagement.flight.dto.projection.GateAssignment(" +
+            "f.id, f.flightNumber, f.originStationId, f.flightDate, f.scheduledDepartureTime, " +
+            "f.actualDepartureTime, f.departureDelay, f.terminal, f.gate) " +
+            "FROM OperationalFlight f WHERE f.flightDate = :date AND f.gate IS NOT NULL " +
+            "AND f.isActive = true AND f.status <> :excludedStatus")
+    List<GateAssignment> findGateAssignmentsByFlightDate(LocalDate date, FlightStatus excludedStatus);
+
+    @Query("SELECT new com.flightmanagement.flight.dto.projection.RouteCount(" +
+            "f.airlineId, f.originIcaoCode, f.destinationIcaoCode, COUNT(f)) " +
+            "FROM OperationalFlight f WHERE f.flightDate = :date AND f.isActive = true " +
+            "GROUP BY f.airlineId, f.originIcaoCode, f.destinationIcaoCode")
+    List<RouteCount> countRoutesByFlightDate(LocalDate date);
+
+    @Query("SELECT new com.flightmanagement.flight.dto.projection.DelayReasonCount(" +
+            "f.airlineId, f.delayReason, COUNT(f)) " +
+            "FROM OperationalFlight f WHERE f.flightDate = :date AND f.isActive = true AND f.delayReason IS NOT NULL " +
+            "GROUP BY f.airlineId, f.delayReason")
+    List<DelayReasonCount> countDelayReasonsByFlightDate(LocalDate date);
 }
\ No newline at end of file
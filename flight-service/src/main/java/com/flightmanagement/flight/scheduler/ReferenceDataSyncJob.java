@@ -0,0 +1,51 @@
+package com.flightmanagement.flight.scheduler;
+
+import com.flightmanagement.flight.service.ReferenceDataStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.reference-sync.enabled", havingValue = "true", matchIfMissing = true)
+public class ReferenceDataSyncJob {
+
+    private final ReferenceDataStore referenceDataStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            referenceDataStore.loadSnapshot();
+        } catch (Exception e) {
+            log.warn("Initial reference snapshot load failed, enrichment falls back to remote lookups: {}",
+                    e.getMessage());
+        }
+    }
+
+    // Safety net for missed deltas: compares versions and reloads the snapshot when they differ
+    @Scheduled(fixedDelayString = "#{@flightServiceProperties.referenceSync.checkInterval.toMillis()}",
+            initialDelayString = "#{@flightServiceProperties.referenceSync.checkInterval.toMillis()}")
+    public void synchronize() {
+        try {
+            referenceDataStore.synchronize();
+        } catch (Exception e) {
+            log.warn("Reference data synchronization failed: {}", e.getMessage());
+        }
+    }
+
+    // A lost delta shows as a version that stays missing while later ones arrive
+    @Scheduled(fixedDelayString = "#{@flightServiceProperties.referenceSync.gapTimeout.toMillis()}",
+            initialDelayString = "#{@flightServiceProperties.referenceSync.gapTimeout.toMillis()}")
+    public void reloadIfGapExpired() {
+        try {
+            referenceDataStore.reloadIfGapExpired();
+        } catch (Exception e) {
+            log.warn("Reference snapshot reload after a missing change failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.flightmanagement.flight.scheduler;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.exception.RevalidationInProgressException;
+import com.flightmanagement.flight.service.ScheduleRevalidationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.revalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduleRevalidationJob {
+
+    private final ScheduleRevalidationService revalidationService;
+    private final FlightServiceProperties properties;
+
+    @Scheduled(cron = "${app.revalidation.cron:0 15 * * * *}")
+    public void revalidateUpcomingSchedule() {
+        LocalDate startDate = LocalDate.now();
+        LocalDate endDate = startDate.plusDays(properties.getRevalidation().getWindowDays() - 1L);
+
+        try {
+            revalidationService.revalidate(startDate, endDate);
+        } catch (RevalidationInProgressException e) {
+            log.info("Skipping scheduled revalidation: {}", e.getMessage());
+        } catch (Exception e) {
+            log.error("Scheduled schedule revalidation failed", e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.flightmanagement.flight.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Authenticates STOMP sessions from the {@code Authorization} header of the CONNECT frame, since the
+ * {@code /ws} handshake itself is open. The resulting user is the session principal for every later frame.
+ * Connections without a token stay anonymous; a token that does not validate refuses the connection.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+
+    private final JwtValidationService jwtValidationService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String jwt = getJwtFromHeaders(accessor);
+        if (!StringUtils.hasText(jwt)) {
+            return message;
+        }
+
+        UserContext userContext;
+        try {
+            userContext = jwtValidationService.validateAndExtractUser(jwt);
+        } catch (Exception ex) {
+            log.warn("Rejected STOMP connect for session {}: {}", accessor.getSessionId(), ex.getMessage());
+            throw new MessageDeliveryException(message, "Invalid JWT token");
+        }
+
+        List<SimpleGrantedAuthority> authorities = userContext.getRoles() == null ? List.of()
+                : userContext.getRoles().stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .toList();
+
+        accessor.setUser(new UsernamePasswordAuthenticationToken(userContext, null, authorities));
+        return message;
+    }
+
+    private String getJwtFromHeaders(StompHeaderAccessor accessor) {
+        String bearerToken = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
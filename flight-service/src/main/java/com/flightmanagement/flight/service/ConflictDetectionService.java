@@ -18,9 +18,18 @@ import java.util.List;
 @Slf4j
 public class ConflictDetectionService {
 
+    public static final int TURNAROUND_BUFFER_MINUTES = 30;
+    public static final int SLOT_WINDOW_MINUTES = 30;
+
     private final OperationalFlightRepository flightRepository;
+    private final GateOccupancyIndex gateOccupancyIndex;
 
     public List<Conflict> detectConflicts(OperationalFlightCreateRequestDto request) {
+        return detectConflicts(request, null);
+    }
+
+    public List<Conflict> detectConflicts(OperationalFlightCreateRequestDto request,
+                                          GateOccupancyIndex.BatchEvaluation gateBatch) {
         List<Conflict> conflicts = new ArrayList<>();
 
         // Flight number duplicate check
@@ -44,20 +53,52 @@ public class ConflictDetectionService {
         // Airport slot conflicts
         conflicts.addAll(checkAirportSlotConflicts(request));
 
+        // Gate occupancy conflicts
+        if (gateBatch != null) {
+            conflicts.addAll(toGateConflicts(gateBatch.findOverlapping(request.getOriginStationId(),
+                    request.getTerminal(), request.getGate(), request.getFlightDate(), request.getScheduledDepartureTime())));
+            if (conflicts.isEmpty()) {
+                gateBatch.reserve(request.getFlightNumber(), request.getOriginStationId(), request.getTerminal(),
+                        request.getGate(), request.getFlightDate(), request.getScheduledDepartureTime());
+            }
+        } else {
+            conflicts.addAll(detectGateConflicts(request, null));
+        }
+
         return conflicts;
     }
 
+    /**
+     * Gate conflicts of the requested schedule. For an update of {@code existing}, the flight keeps its actual
+     * departure time and delay, so it is checked at the departure the gate index will hold for it.
+     */
+    public List<Conflict> detectGateConflicts(OperationalFlightCreateRequestDto request, OperationalFlight existing) {
+        LocalTime departure = existing == null ? request.getScheduledDepartureTime()
+                : GateOccupancyIndex.effectiveDepartureTime(request.getScheduledDepartureTime(),
+                        existing.getActualDepartureTime(), existing.getDepartureDelay());
+        return toGateConflicts(gateOccupancyIndex.findOverlapping(request.getOriginStationId(), request.getTerminal(),
+                request.getGate(), request.getFlightDate(), departure, existing != null ? existing.getId() : null));
+    }
+
+    private List<Conflict> toGateConflicts(List<GateOccupancyIndex.Occupancy> occupancies) {
+        return occupancies.stream()
+                .map(occupancy -> new Conflict(ConflictType.GATE_CONFLICT,
+                        String.format("Gate %s already occupied by flight %s",
+                                occupancy.key().gate(), occupancy.flightNumber())))
+                .toList();
+    }
+
     private boolean isTimeOverlap(OperationalFlightCreateRequestDto request, OperationalFlight existing) {
-        LocalTime requestDep = request.getScheduledDepartureTime();
-        LocalTime requestArr = request.getScheduledArrivalTime();
-        LocalTime existingDep = existing.getScheduledDepartureTime();
-        LocalTime existingArr = existing.getScheduledArrivalTime();
+        return isAircraftOverlap(request.getScheduledDepartureTime(), request.getScheduledArrivalTime(),
+                existing.getScheduledDepartureTime(), existing.getScheduledArrivalTime());
+    }
 
+    public static boolean isAircraftOverlap(LocalTime firstDep, LocalTime firstArr, LocalTime secondDep, LocalTime secondArr) {
         // Add buffer time (30 minutes) for aircraft turnaround
-        LocalTime bufferedExistingArr = existingArr.plusMinutes(30);
-        LocalTime bufferedRequestArr = requestArr.plusMinutes(30);
+        LocalTime bufferedFirstArr = firstArr.plusMinutes(TURNAROUND_BUFFER_MINUTES);
+        LocalTime bufferedSecondArr = secondArr.plusMinutes(TURNAROUND_BUFFER_MINUTES);
 
-        return !(requestDep.isAfter(bufferedExistingArr) || existingDep.isAfter(bufferedRequestArr));
+        return !(firstDep.isAfter(bufferedSecondArr) || secondDep.isAfter(bufferedFirstArr));
     }
 
     private List<Conflict> checkAirportSlotConflicts(OperationalFlightCreateRequestDto request) {
@@ -77,9 +118,9 @@ public class ConflictDetectionService {
         return conflicts;
     }
 
-    private boolean isSlotConflict(LocalTime time1, LocalTime time2) {
+    public static boolean isSlotConflict(LocalTime time1, LocalTime time2) {
         // 30-minute slot window
-        return Math.abs(Duration.between(time1, time2).toMinutes()) < 30;
+        return Math.abs(Duration.between(time1, time2).toMinutes()) < SLOT_WINDOW_MINUTES;
     }
 
     public static class Conflict {
@@ -1,5 +1,7 @@
 package com.flightmanagement.flight.service;
 
+import com.flightmanagement.flight.dto.reference.ReferenceTuple;
+import com.flightmanagement.flight.dto.reference.ResolvedReferences;
 import com.flightmanagement.flight.dto.request.OperationalFlightCreateRequestDto;
 import com.flightmanagement.flight.dto.response.FlightUploadBatchResponseDto;
 import com.flightmanagement.flight.entity.FlightConflict;
@@ -26,7 +28,9 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -41,6 +45,11 @@ public class CsvUploadService {
     private final FlightEnrichmentService enrichmentService;
     private final EventPublishService eventPublishService;
     private final WebSocketService webSocketService;
+    private final GateOccupancyIndex gateOccupancyIndex;
+    private final DailySummaryService dailySummaryService;
+    private final LiveBoardCache liveBoardCache;
+    private final ReferenceDataService referenceDataService;
+    private final ReferenceDataStore referenceDataStore;
 
     @Async("csvProcessingExecutor")
     @Transactional
@@ -63,16 +72,18 @@ public class CsvUploadService {
 
             List<FlightCreationData> validFlights = new ArrayList<>();
             List<FlightConflict> conflicts = new ArrayList<>();
+            GateOccupancyIndex.BatchEvaluation gateBatch = gateOccupancyIndex.newBatchEvaluation();
+            ResolvedReferences resolved = resolveReferences(csvData);
 
             for (int i = 0; i < csvData.size(); i++) {
                 try {
                     CsvFlightRow rowData = csvData.get(i);
 
                     // Create enriched flight data
-                    FlightCreationData flightData = enrichCsvRow(rowData, userContext);
+                    FlightCreationData flightData = enrichCsvRow(rowData, resolved);
 
                     // Detect conflicts using the enriched data
-                    var rowConflicts = conflictService.detectConflicts(flightData.getFlightDto());
+                    var rowConflicts = conflictService.detectConflicts(flightData.getFlightDto(), gateBatch);
                     if (!rowConflicts.isEmpty()) {
                         conflicts.addAll(mapToFlightConflicts(rowConflicts, batch.getId(), i + 1, rowData));
                         batch.setConflictRows(batch.getConflictRows() + 1);
@@ -118,7 +129,30 @@ public class CsvUploadService {
         return CompletableFuture.completedFuture(mapToBatchResponseDto(batch));
     }
 
-    private FlightCreationData enrichCsvRow(CsvFlightRow csvRow, UserContext userContext) {
+    private ResolvedReferences resolveReferences(List<CsvFlightRow> csvData) {
+        if (referenceDataStore.isLoaded()) {
+            // Rows are enriched from memory, no round-trip needed
+            return null;
+        }
+
+        // Distinct codes of the whole file in one call instead of four lookups per row
+        Set<ReferenceTuple> tuples = csvData.stream()
+                .map(row -> new ReferenceTuple(row.getAirlineCode(), row.getAircraftType(),
+                        row.getOriginIcaoCode(), row.getDestinationIcaoCode()))
+                .collect(Collectors.toSet());
+        if (tuples.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return referenceDataService.resolveReferences(tuples);
+        } catch (Exception e) {
+            log.warn("Bulk reference resolution failed, resolving rows individually: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private FlightCreationData enrichCsvRow(CsvFlightRow csvRow, ResolvedReferences resolved) {
         // Create basic DTO
         OperationalFlightCreateRequestDto dto = mapCsvToFlightDto(csvRow);
 
@@ -130,7 +164,8 @@ public class CsvUploadService {
                 csvRow.getAirlineCode(),
                 csvRow.getAircraftType(),
                 csvRow.getOriginIcaoCode(),
-                csvRow.getDestinationIcaoCode());
+                csvRow.getDestinationIcaoCode(),
+                resolved);
 
         // Update DTO with enriched IDs
         if (tempFlight.getAirlineId() != null) {
@@ -227,6 +262,9 @@ public class CsvUploadService {
                 flight.setUploadBatchId(batch.getId());
 
                 flightRepository.save(flight);
+                gateOccupancyIndex.register(flight);
+                dailySummaryService.recordChange(null, flight);
+                liveBoardCache.invalidate(flight);
                 eventPublishService.publishFlightEvent("FLIGHT_CREATED", flight, userContext);
 
             } catch (Exception e) {
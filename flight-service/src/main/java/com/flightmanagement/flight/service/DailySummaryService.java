@@ -0,0 +1,113 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.entity.DailyFlightSummary;
+import com.flightmanagement.flight.entity.OperationalFlight;
+import com.flightmanagement.flight.enums.FlightStatus;
+import com.flightmanagement.flight.repository.DailyFlightSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Maintains {@link DailyFlightSummary} rows incrementally. Callers capture a flight's tally before
+ * changing it and hand it back with the saved flight; only the difference is written, in the caller's
+ * transaction, so the summary commits or rolls back together with the flight.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailySummaryService {
+
+    static final int ON_TIME_THRESHOLD_MINUTES = 15;
+
+    private final DailyFlightSummaryRepository summaryRepository;
+    private final TopKAnalyticsIndex topKAnalyticsIndex;
+
+    public FlightTally capture(OperationalFlight flight) {
+        return FlightTally.of(flight);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(FlightTally before, OperationalFlight after) {
+        FlightTally current = FlightTally.of(after);
+        topKAnalyticsIndex.recordChange(before, current);
+        if (before == null ? current == null : before.sameCounts(current)) {
+            return;
+        }
+        if (before != null) {
+            apply(before, -1);
+        }
+        if (current != null) {
+            apply(current, 1);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyFlightSummary> getSummaries(LocalDate date) {
+        return summaryRepository.findByFlightDate(date);
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyFlightSummary> getSummaries(LocalDate date, Long airlineId) {
+        return summaryRepository.findByFlightDateAndAirlineId(date, airlineId).stream().toList();
+    }
+
+    /**
+     * Recomputes the given days from the flights table, replacing whatever the running totals hold.
+     */
+    @Transactional
+    public int rebuild(LocalDate startDate, LocalDate endDate) {
+        int rows = 0;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            summaryRepository.deleteByFlightDate(date);
+            rows += summaryRepository.insertRecomputed(date);
+        }
+        log.info("Rebuilt {} daily summary rows between {} and {}", rows, startDate, endDate);
+        return rows;
+    }
+
+    private void apply(FlightTally tally, int sign) {
+        FlightStatus status = tally.status();
+        summaryRepository.addDeltas(tally.flightDate(), tally.airlineId(), sign,
+                status == FlightStatus.SCHEDULED ? sign : 0,
+                status == FlightStatus.DEPARTED ? sign : 0,
+                status == FlightStatus.ARRIVED ? sign : 0,
+                status == FlightStatus.DELAYED ? sign : 0,
+                status == FlightStatus.CANCELLED ? sign : 0,
+                (long) sign * tally.lateMinutes(),
+                tally.lateMinutes() > 0 ? sign : 0,
+                tally.onTime() ? sign : 0);
+    }
+
+    /**
+     * What one flight contributes to its day's summary; {@code null} for flights that do not count.
+     */
+    public record FlightTally(LocalDate flightDate, Long airlineId, FlightStatus status, int lateMinutes,
+                              boolean onTime, String route, String delayReason) {
+
+        static FlightTally of(OperationalFlight flight) {
+            if (flight == null || !Boolean.TRUE.equals(flight.getIsActive())
+                    || flight.getFlightDate() == null || flight.getAirlineId() == null) {
+                return null;
+            }
+            Integer arrivalDelay = flight.getArrivalDelay();
+            return new FlightTally(flight.getFlightDate(), flight.getAirlineId(),
+                    flight.getStatus() != null ? flight.getStatus() : FlightStatus.SCHEDULED,
+                    arrivalDelay != null && arrivalDelay > 0 ? arrivalDelay : 0,
+                    arrivalDelay != null && arrivalDelay <= ON_TIME_THRESHOLD_MINUTES,
+                    TopKAnalyticsIndex.routeKey(flight.getOriginIcaoCode(), flight.getDestinationIcaoCode()),
+                    TopKAnalyticsIndex.normalizeReason(flight.getDelayReason()));
+        }
+
+        // Route and delay reason feed the top-k sketches, not the summary row
+        boolean sameCounts(FlightTally other) {
+            return other != null && flightDate.equals(other.flightDate) && airlineId.equals(other.airlineId)
+                    && status == other.status && lateMinutes == other.lateMinutes && onTime == other.onTime;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.flightmanagement.flight.service;
 
 import com.flightmanagement.flight.config.FlightServiceProperties;
 import com.flightmanagement.flight.dto.kafka.FlightEventDto;
+import com.flightmanagement.flight.entity.FlightConflict;
 import com.flightmanagement.flight.entity.OperationalFlight;
 import com.flightmanagement.flight.security.UserContext;
 import lombok.RequiredArgsConstructor;
@@ -70,6 +71,34 @@ public class EventPublishService {
         }
     }
 
+    public void publishConflictEvent(String eventType, FlightConflict conflict) {
+        try {
+            Map<String, Object> conflictData = new HashMap<>();
+            conflictData.put("conflictId", conflict.getId());
+            conflictData.put("conflictType", conflict.getConflictType());
+            conflictData.put("existingFlightId", conflict.getExistingFlightId());
+            conflictData.put("description", conflict.getConflictDescription());
+
+            FlightEventDto event = FlightEventDto.builder()
+                    .eventType(eventType)
+                    .entityType("FLIGHT_CONFLICT")
+                    .entityId(conflict.getOperationalFlightId())
+                    .flightDate(conflict.getFlightDate())
+                    .changeType(conflict.getConflictType().name())
+                    .currentData(conflictData)
+                    .timestamp(LocalDateTime.now())
+                    .triggeredBy(conflict.getSource().name())
+                    .build();
+
+            kafkaTemplate.send(properties.getKafka().getTopics().getFlightEvents(),
+                             String.valueOf(conflict.getOperationalFlightId()), event);
+
+            log.debug("Published conflict event: {} for conflict: {}", eventType, conflict.getId());
+        } catch (Exception e) {
+            log.error("Failed to publish conflict event: {} for conflict: {}", eventType, conflict.getId(), e);
+        }
+    }
+
     public void publishUploadEvent(String eventType, Long batchId, UserContext userContext) {
         try {
             Map<String, Object> event = new HashMap<>();
@@ -1,37 +1,107 @@
 package com.flightmanagement.flight.service;
 
-import com.flightmanagement.flight.dto.request.OperationalFlightCreateRequestDto;
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.reference.AircraftRef;
+import com.flightmanagement.flight.dto.reference.AirlineRef;
+import com.flightmanagement.flight.dto.reference.FlightReferences;
+import com.flightmanagement.flight.dto.reference.ResolvedReferences;
+import com.flightmanagement.flight.dto.reference.StationRef;
 import com.flightmanagement.flight.entity.OperationalFlight;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class FlightEnrichmentService {
 
     private final ReferenceDataService referenceDataService;
+    private final ReferenceDataStore referenceDataStore;
+    private final ExecutorService referenceLookupExecutor;
+    private final Duration lookupDeadline;
+
+    public FlightEnrichmentService(ReferenceDataService referenceDataService, ReferenceDataStore referenceDataStore,
+                                   @Qualifier("referenceLookupExecutor") ExecutorService referenceLookupExecutor,
+                                   FlightServiceProperties properties) {
+        this.referenceDataService = referenceDataService;
+        this.referenceDataStore = referenceDataStore;
+        this.referenceLookupExecutor = referenceLookupExecutor;
+        this.lookupDeadline = properties.getReferenceManager().getLookupDeadline();
+    }
 
-    public void enrichOperationalFlight(OperationalFlight flight, OperationalFlightCreateRequestDto request) {
-        try {
-            // Enrich airline data
-            enrichAirlineData(flight, request.getAirlineId());
+    /**
+     * New resolution context for one request or batch; each reference it is asked for is looked up once.
+     */
+    public ReferenceResolutionContext newResolutionContext() {
+        return new ReferenceResolutionContext(this);
+    }
 
-            // Enrich aircraft data
-            enrichAircraftData(flight, request.getAircraftId());
+    /**
+     * Looks up the four references of a flight. From the in-memory store this is immediate; remote lookups
+     * run side by side on virtual threads, so a cold cache costs about one round-trip instead of four.
+     * Whatever has not answered by the deadline is left {@code null}.
+     */
+    public FlightReferences lookupReferences(Long airlineId, Long aircraftId, Long originStationId,
+                                             Long destinationStationId) {
+        if (referenceDataStore.isLoaded()) {
+            return new FlightReferences(findAirline(airlineId), findAircraft(aircraftId), findStation(originStationId),
+                    findStation(destinationStationId));
+        }
 
-            // Enrich station data
-            enrichStationData(flight, request.getOriginStationId(), request.getDestinationStationId());
+        CompletableFuture<AirlineRef> airline = lookupAsync(airlineId, referenceDataService::getAirline);
+        CompletableFuture<AircraftRef> aircraft = lookupAsync(aircraftId, referenceDataService::getAircraft);
+        CompletableFuture<StationRef> origin = lookupAsync(originStationId, referenceDataService::getStation);
+        CompletableFuture<StationRef> destination = lookupAsync(destinationStationId, referenceDataService::getStation);
 
-            log.debug("Successfully enriched flight data for: {}", flight.getFlightNumber());
+        try {
+            CompletableFuture.allOf(airline, aircraft, origin, destination)
+                    .get(lookupDeadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Reference lookups did not complete within {} ms", lookupDeadline.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Individual failures are handled per lookup below
+        }
 
-        } catch (Exception e) {
-            log.error("Failed to enrich flight data for: {}", flight.getFlightNumber(), e);
-            // Set fallback values
-            setFallbackData(flight, request);
+        return new FlightReferences(resultOf(airline, "airline", airlineId), resultOf(aircraft, "aircraft", aircraftId),
+                resultOf(origin, "origin station", originStationId),
+                resultOf(destination, "destination station", destinationStationId));
+    }
+
+    private <T> CompletableFuture<T> lookupAsync(Long id, Function<Long, T> lookup) {
+        if (id == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> lookup.apply(id), referenceLookupExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static <T> T resultOf(CompletableFuture<T> future, String entityName, Long id) {
+        if (!future.isDone()) {
+            future.cancel(true);
+            return null;
+        }
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("Failed to look up {} for ID: {}", entityName, id, e);
+            return null;
         }
     }
 
@@ -39,43 +109,43 @@ public class FlightEnrichmentService {
                                   String originIcao, String destinationIcao) {
         try {
             // Resolve airline by code
-            var airlineOpt = referenceDataService.getAirlineByCode(airlineCode);
+            var airlineOpt = findAirlineByCode(airlineCode);
             if (airlineOpt.isPresent()) {
-                Map<String, Object> airline = airlineOpt.get();
-                flight.setAirlineId(((Number) airline.get("id")).longValue());
-                flight.setAirlineCode((String) airline.get("code"));
-                flight.setAirlineName((String) airline.get("name"));
+                AirlineRef airline = airlineOpt.get();
+                flight.setAirlineId(airline.id());
+                flight.setAirlineCode(airline.code());
+                flight.setAirlineName(airline.name());
             } else {
                 flight.setAirlineCode(airlineCode);
                 flight.setAirlineName("Unknown Airline");
             }
 
             // Resolve aircraft by type
-            var aircraftOpt = referenceDataService.getAircraftByType(aircraftType);
+            var aircraftOpt = findAircraftByType(aircraftType);
             if (aircraftOpt.isPresent()) {
-                Map<String, Object> aircraft = aircraftOpt.get();
-                flight.setAircraftId(((Number) aircraft.get("id")).longValue());
-                flight.setAircraftType((String) aircraft.get("type"));
+                AircraftRef aircraft = aircraftOpt.get();
+                flight.setAircraftId(aircraft.id());
+                flight.setAircraftType(aircraft.type());
             } else {
                 flight.setAircraftType(aircraftType);
             }
 
             // Resolve origin station
-            var originOpt = referenceDataService.getStationByIcao(originIcao);
+            var originOpt = findStationByIcao(originIcao);
             if (originOpt.isPresent()) {
-                Map<String, Object> origin = originOpt.get();
-                flight.setOriginStationId(((Number) origin.get("id")).longValue());
-                flight.setOriginIcaoCode((String) origin.get("icaoCode"));
+                StationRef origin = originOpt.get();
+                flight.setOriginStationId(origin.id());
+                flight.setOriginIcaoCode(origin.icaoCode());
             } else {
                 flight.setOriginIcaoCode(originIcao);
             }
 
             // Resolve destination station
-            var destinationOpt = referenceDataService.getStationByIcao(destinationIcao);
+            var destinationOpt = findStationByIcao(destinationIcao);
             if (destinationOpt.isPresent()) {
-                Map<String, Object> destination = destinationOpt.get();
-                flight.setDestinationStationId(((Number) destination.get("id")).longValue());
-                flight.setDestinationIcaoCode((String) destination.get("icaoCode"));
+                StationRef destination = destinationOpt.get();
+                flight.setDestinationStationId(destination.id());
+                flight.setDestinationIcaoCode(destination.icaoCode());
             } else {
                 flight.setDestinationIcaoCode(destinationIcao);
             }
@@ -92,82 +162,82 @@ public class FlightEnrichmentService {
         }
     }
 
-    private void enrichAirlineData(OperationalFlight flight, Long airlineId) {
-        try {
-            Map<String, Object> airline = referenceDataService.getAirline(airlineId);
-            if (airline != null) {
-                flight.setAirlineCode((String) airline.get("code"));
-                flight.setAirlineName((String) airline.get("name"));
-            } else {
-                setFallbackAirlineData(flight);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to enrich airline data for ID: {}", airlineId, e);
-            setFallbackAirlineData(flight);
+    public void enrichFromCsvData(OperationalFlight flight, String airlineCode, String aircraftType,
+                                  String originIcao, String destinationIcao, ResolvedReferences resolved) {
+        if (resolved == null) {
+            enrichFromCsvData(flight, airlineCode, aircraftType, originIcao, destinationIcao);
+            return;
         }
-    }
 
-    private void enrichAircraftData(OperationalFlight flight, Long aircraftId) {
-        try {
-            Map<String, Object> aircraft = referenceDataService.getAircraft(aircraftId);
-            if (aircraft != null) {
-                flight.setAircraftType((String) aircraft.get("type"));
-            } else {
-                flight.setAircraftType("Unknown");
-            }
-        } catch (Exception e) {
-            log.warn("Failed to enrich aircraft data for ID: {}", aircraftId, e);
-            flight.setAircraftType("Unknown");
+        AirlineRef airline = resolved.getAirline(airlineCode);
+        if (airline != null) {
+            flight.setAirlineId(airline.id());
+            flight.setAirlineCode(airline.code());
+            flight.setAirlineName(airline.name());
+        } else {
+            flight.setAirlineCode(airlineCode);
+            flight.setAirlineName("Unknown Airline");
         }
-    }
 
-    private void enrichStationData(OperationalFlight flight, Long originStationId, Long destinationStationId) {
-        // Enrich origin station
-        try {
-            Map<String, Object> originStation = referenceDataService.getStation(originStationId);
-            if (originStation != null) {
-                flight.setOriginIcaoCode((String) originStation.get("icaoCode"));
-            } else {
-                flight.setOriginIcaoCode("XXXX");
-            }
-        } catch (Exception e) {
-            log.warn("Failed to enrich origin station data for ID: {}", originStationId, e);
-            flight.setOriginIcaoCode("XXXX");
+        AircraftRef aircraft = resolved.getAircraftByType(aircraftType);
+        if (aircraft != null) {
+            flight.setAircraftId(aircraft.id());
+            flight.setAircraftType(aircraft.type());
+        } else {
+            flight.setAircraftType(aircraftType);
         }
 
-        // Enrich destination station
-        try {
-            Map<String, Object> destinationStation = referenceDataService.getStation(destinationStationId);
-            if (destinationStation != null) {
-                flight.setDestinationIcaoCode((String) destinationStation.get("icaoCode"));
-            } else {
-                flight.setDestinationIcaoCode("YYYY");
-            }
-        } catch (Exception e) {
-            log.warn("Failed to enrich destination station data for ID: {}", destinationStationId, e);
-            flight.setDestinationIcaoCode("YYYY");
+        StationRef origin = resolved.getStation(originIcao);
+        if (origin != null) {
+            flight.setOriginStationId(origin.id());
+            flight.setOriginIcaoCode(origin.icaoCode());
+        } else {
+            flight.setOriginIcaoCode(originIcao);
         }
-    }
 
-    private void setFallbackData(OperationalFlight flight, OperationalFlightCreateRequestDto request) {
-        setFallbackAirlineData(flight);
-        if (flight.getAircraftType() == null) {
-            flight.setAircraftType("Unknown");
-        }
-        if (flight.getOriginIcaoCode() == null) {
-            flight.setOriginIcaoCode("XXXX");
-        }
-        if (flight.getDestinationIcaoCode() == null) {
-            flight.setDestinationIcaoCode("YYYY");
+        StationRef destination = resolved.getStation(destinationIcao);
+        if (destination != null) {
+            flight.setDestinationStationId(destination.id());
+            flight.setDestinationIcaoCode(destination.icaoCode());
+        } else {
+            flight.setDestinationIcaoCode(destinationIcao);
         }
     }
 
-    private void setFallbackAirlineData(OperationalFlight flight) {
-        if (flight.getAirlineCode() == null) {
-            flight.setAirlineCode("XX");
-        }
-        if (flight.getAirlineName() == null) {
-            flight.setAirlineName("Unknown Airline");
-        }
+    // The in-memory store answers once the snapshot is loaded; remote lookups only cover startup
+    private AirlineRef findAirline(Long airlineId) {
+        return referenceDataStore.isLoaded()
+                ? referenceDataStore.findAirline(airlineId).orElse(null)
+                : referenceDataService.getAirline(airlineId);
+    }
+
+    private StationRef findStation(Long stationId) {
+        return referenceDataStore.isLoaded()
+                ? referenceDataStore.findStation(stationId).orElse(null)
+                : referenceDataService.getStation(stationId);
+    }
+
+    private AircraftRef findAircraft(Long aircraftId) {
+        return referenceDataStore.isLoaded()
+                ? referenceDataStore.findAircraft(aircraftId).orElse(null)
+                : referenceDataService.getAircraft(aircraftId);
+    }
+
+    private Optional<AirlineRef> findAirlineByCode(String airlineCode) {
+        return referenceDataStore.isLoaded()
+                ? referenceDataStore.findAirlineByCode(airlineCode)
+                : referenceDataService.getAirlineByCode(airlineCode);
+    }
+
+    private Optional<StationRef> findStationByIcao(String icaoCode) {
+        return referenceDataStore.isLoaded()
+                ? referenceDataStore.findStationByIcao(icaoCode)
+                : referenceDataService.getStationByIcao(icaoCode);
+    }
+
+    private Optional<AircraftRef> findAircraftByType(String aircraftType) {
+        return referenceDataStore.isLoaded()
+                ? referenceDataStore.findAircraftByType(aircraftType)
+                : referenceDataService.getAircraftByType(aircraftType);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,11 @@
 package com.flightmanagement.flight.service;
 
+import com.flightmanagement.flight.config.FlightServiceProperties;
 import com.flightmanagement.flight.dto.request.FlightStatusUpdateRequestDto;
 import com.flightmanagement.flight.dto.response.DashboardOverviewDto;
-import com.flightmanagement.flight.dto.response.LiveFlightStatusDto;
 import com.flightmanagement.flight.dto.response.OperationalFlightResponseDto;
+import com.flightmanagement.flight.dto.response.RankedCountDto;
+import com.flightmanagement.flight.entity.DailyFlightSummary;
 import com.flightmanagement.flight.entity.OperationalFlight;
 import com.flightmanagement.flight.enums.FlightStatus;
 import com.flightmanagement.flight.exception.FlightNotFoundException;
@@ -30,11 +32,17 @@ public class FlightStatusService {
     private final OperationalFlightMapperImpl flightMapper;
     private final EventPublishService eventPublishService;
     private final WebSocketService webSocketService;
+    private final GateOccupancyIndex gateOccupancyIndex;
+    private final DailySummaryService dailySummaryService;
+    private final TopKAnalyticsIndex topKAnalyticsIndex;
+    private final LiveBoardCache liveBoardCache;
+    private final FlightServiceProperties properties;
 
     public OperationalFlightResponseDto updateFlightStatus(Long id, FlightStatusUpdateRequestDto request, UserContext userContext) {
-        OperationalFlight flight = getFlightWithAccessCheck(id, userContext);
+        OperationalFlight flight = getFlightForUpdate(id, userContext);
 
         FlightStatus previousStatus = flight.getStatus();
+        DailySummaryService.FlightTally previousTally = dailySummaryService.capture(flight);
 
         // Update status and times
         flight.setStatus(request.getStatus());
@@ -64,6 +72,9 @@ public class FlightStatusService {
 
         flight.setUpdatedBy(userContext.getUsername());
         flight = flightRepository.save(flight);
+        gateOccupancyIndex.register(flight);
+        dailySummaryService.recordChange(previousTally, flight);
+        liveBoardCache.invalidate(flight);
 
         // Publish events
         eventPublishService.publishFlightEvent("STATUS_CHANGED", flight, userContext);
@@ -75,34 +86,33 @@ public class FlightStatusService {
         return flightMapper.toResponseDto(flight);
     }
 
-    public List<LiveFlightStatusDto> getLiveFlightStatus(LocalDate date, UserContext userContext) {
-        List<OperationalFlight> flights;
-
-        if (userContext.isAirlineUser()) {
-            flights = flightRepository.findByAirlineIdAndFlightDate(userContext.getAirlineId(), date, null).getContent();
-        } else {
-            flights = flightRepository.findByFlightDate(date, null).getContent();
-        }
-
-        return flights.stream()
-                .map(this::mapToLiveStatusDto)
-                .toList();
+    @Transactional(readOnly = true)
+    public LiveBoardCache.LiveBoard getLiveBoard(LocalDate date, UserContext userContext) {
+        return liveBoardCache.getBoard(date, userContext.isAirlineUser() ? userContext.getAirlineId() : null);
     }
 
-    public DashboardOverviewDto getDashboardOverview(LocalDate date, UserContext userContext) {
-        List<OperationalFlight> flights;
+    @Transactional(readOnly = true)
+    public DashboardOverviewDto getDashboardOverview(LocalDate date, Integer top, UserContext userContext) {
+        Long airlineId = userContext.isAirlineUser() ? userContext.getAirlineId() : null;
+        List<DailyFlightSummary> summaries = airlineId != null
+                ? dailySummaryService.getSummaries(date, airlineId)
+                : dailySummaryService.getSummaries(date);
 
-        if (userContext.isAirlineUser()) {
-            flights = flightRepository.findByAirlineIdAndFlightDate(userContext.getAirlineId(), date, null).getContent();
-        } else {
-            flights = flightRepository.findByFlightDate(date, null).getContent();
-        }
+        int topN = top != null && top > 0 ? Math.min(top, properties.getAnalytics().getSketchCapacity())
+                : properties.getAnalytics().getTopN();
+        List<RankedCountDto> topRoutes = topKAnalyticsIndex.topRoutes(date, airlineId, topN);
+        List<RankedCountDto> topDelayReasons = topKAnalyticsIndex.topDelayReasons(date, airlineId, topN);
+
+        return calculateDashboardMetrics(summaries, topRoutes, topDelayReasons, date);
+    }
 
-        return calculateDashboardMetrics(flights, date);
+    public int rebuildDailySummaries(LocalDate startDate, LocalDate endDate) {
+        return dailySummaryService.rebuild(startDate, endDate);
     }
 
-    private OperationalFlight getFlightWithAccessCheck(Long id, UserContext userContext) {
-        OperationalFlight flight = flightRepository.findById(id)
+    private OperationalFlight getFlightForUpdate(Long id, UserContext userContext) {
+        // Locked so that concurrent updates capture the previous tally one after another
+        OperationalFlight flight = flightRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new FlightNotFoundException("Flight not found with id: " + id));
 
         if (userContext.isAirlineUser() && !flight.getAirlineId().equals(userContext.getAirlineId())) {
@@ -112,46 +122,36 @@ public class FlightStatusService {
         return flight;
     }
 
-    private LiveFlightStatusDto mapToLiveStatusDto(OperationalFlight flight) {
-        LiveFlightStatusDto dto = new LiveFlightStatusDto();
-        dto.setId(flight.getId());
-        dto.setFlightNumber(flight.getFlightNumber());
-        dto.setAirlineCode(flight.getAirlineCode());
-        dto.setAircraftType(flight.getAircraftType());
-        dto.setFlightDate(flight.getFlightDate());
-        dto.setScheduledDepartureTime(flight.getScheduledDepartureTime());
-        dto.setScheduledArrivalTime(flight.getScheduledArrivalTime());
-        dto.setActualDepartureTime(flight.getActualDepartureTime());
-        dto.setActualArrivalTime(flight.getActualArrivalTime());
-        dto.setOriginIcaoCode(flight.getOriginIcaoCode());
-        dto.setDestinationIcaoCode(flight.getDestinationIcaoCode());
-        dto.setGate(flight.getGate());
-        dto.setTerminal(flight.getTerminal());
-        dto.setStatus(flight.getStatus());
-        dto.setDepartureDelay(flight.getDepartureDelay());
-        dto.setArrivalDelay(flight.getArrivalDelay());
-        dto.setIsOnTime(flight.getArrivalDelay() != null ? flight.getArrivalDelay() <= 15 : null);
-        return dto;
-    }
-
-    private DashboardOverviewDto calculateDashboardMetrics(List<OperationalFlight> flights, LocalDate date) {
-        int totalFlights = flights.size();
-        int scheduledFlights = (int) flights.stream().filter(f -> f.getStatus() == FlightStatus.SCHEDULED).count();
-        int departedFlights = (int) flights.stream().filter(f -> f.getStatus() == FlightStatus.DEPARTED).count();
-        int arrivedFlights = (int) flights.stream().filter(f -> f.getStatus() == FlightStatus.ARRIVED).count();
-        int delayedFlights = (int) flights.stream().filter(f -> f.getStatus() == FlightStatus.DELAYED).count();
-        int cancelledFlights = (int) flights.stream().filter(f -> f.getStatus() == FlightStatus.CANCELLED).count();
-
-        double averageDelay = flights.stream()
-                .filter(f -> f.getArrivalDelay() != null && f.getArrivalDelay() > 0)
-                .mapToInt(OperationalFlight::getArrivalDelay)
-                .average()
-                .orElse(0.0);
-
-        int onTimeFlights = (int) flights.stream()
-                .filter(f -> f.getArrivalDelay() != null && f.getArrivalDelay() <= 15)
-                .count();
+    private DashboardOverviewDto calculateDashboardMetrics(List<DailyFlightSummary> summaries,
+                                                           List<RankedCountDto> topRoutes,
+                                                           List<RankedCountDto> topDelayReasons, LocalDate date) {
+        int totalFlights = 0;
+        int scheduledFlights = 0;
+        int departedFlights = 0;
+        int arrivedFlights = 0;
+        int delayedFlights = 0;
+        int cancelledFlights = 0;
+        long arrivalDelayMinutes = 0;
+        int lateArrivals = 0;
+        int onTimeFlights = 0;
+        int activeAirlines = 0;
+
+        for (DailyFlightSummary summary : summaries) {
+            totalFlights += summary.getTotalFlights();
+            scheduledFlights += summary.getScheduledFlights();
+            departedFlights += summary.getDepartedFlights();
+            arrivedFlights += summary.getArrivedFlights();
+            delayedFlights += summary.getDelayedFlights();
+            cancelledFlights += summary.getCancelledFlights();
+            arrivalDelayMinutes += summary.getArrivalDelayMinutes();
+            lateArrivals += summary.getLateArrivals();
+            onTimeFlights += summary.getOnTimeArrivals();
+            if (summary.getTotalFlights() > 0) {
+                activeAirlines++;
+            }
+        }
 
+        double averageDelay = lateArrivals > 0 ? (double) arrivalDelayMinutes / lateArrivals : 0.0;
         double onTimePerformance = totalFlights > 0 ? (double) onTimeFlights / totalFlights * 100 : 0.0;
 
         return DashboardOverviewDto.builder()
@@ -164,9 +164,10 @@ public class FlightStatusService {
                 .cancelledFlights(cancelledFlights)
                 .averageDelay(averageDelay)
                 .onTimePerformance(onTimePerformance)
-                .activeAirlines((int) flights.stream().map(OperationalFlight::getAirlineId).distinct().count())
-                .busiestRoute("LTBA-EDDF") // This would be calculated from actual data
-                .topDelayReasons(List.of("Weather", "ATC", "Technical"))
+                .activeAirlines(activeAirlines)
+                .busiestRoute(topRoutes.isEmpty() ? null : topRoutes.get(0).key())
+                .topRoutes(topRoutes)
+                .topDelayReasons(topDelayReasons.stream().map(RankedCountDto::key).toList())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,358 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.projection.GateAssignment;
+import com.flightmanagement.flight.entity.OperationalFlight;
+import com.flightmanagement.flight.enums.FlightStatus;
+import com.flightmanagement.flight.repository.OperationalFlightRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory gate occupancy per (station, terminal/gate, day). A day is loaded from the database on
+ * first use, kept current from the write paths after commit, and reloaded every
+ * {@code app.gate.reseed-interval}, which also picks up writes made on other instances. Days nobody
+ * looks at for {@code app.gate.day-expiry} are dropped.
+ */
+@Component
+@Slf4j
+public class GateOccupancyIndex {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final OperationalFlightRepository flightRepository;
+    private final FlightServiceProperties.Gate properties;
+    private final Cache<LocalDate, GateDay> days;
+
+    public GateOccupancyIndex(OperationalFlightRepository flightRepository, FlightServiceProperties properties) {
+        this.flightRepository = flightRepository;
+        this.properties = properties.getGate();
+        this.days = Caffeine.newBuilder()
+                .expireAfterAccess(this.properties.getDayExpiry())
+                .build();
+    }
+
+    public List<Occupancy> findOverlapping(Long stationId, String terminal, String gate, LocalDate date,
+                                           LocalTime departureTime, Long excludeFlightId) {
+        Occupancy candidate = toOccupancy(null, null, stationId, terminal, gate, date, departureTime);
+        if (candidate == null) {
+            return List.of();
+        }
+
+        List<Occupancy> overlapping = new ArrayList<>();
+        // Occupancy windows can spill over midnight, so the neighbouring days are checked with shifted bounds
+        for (int dayOffset = -1; dayOffset <= 1; dayOffset++) {
+            LocalDate day = date.plusDays(dayOffset);
+            GateDaySchedule schedule = day(day).schedule(candidate.key().onDay(day));
+            if (schedule != null) {
+                int shift = dayOffset * MINUTES_PER_DAY;
+                schedule.collectOverlapping(candidate.startMinute() - shift, candidate.endMinute() - shift,
+                        excludeFlightId, overlapping);
+            }
+        }
+        return overlapping;
+    }
+
+    public void register(OperationalFlight flight) {
+        Long flightId = flight.getId();
+        Occupancy occupancy = isOccupyingGate(flight)
+                ? toOccupancy(flightId, flight.getFlightNumber(), flight.getOriginStationId(), flight.getTerminal(),
+                        flight.getGate(), flight.getFlightDate(), effectiveDepartureTime(
+                                flight.getScheduledDepartureTime(), flight.getActualDepartureTime(), flight.getDepartureDelay()))
+                : null;
+
+        afterCommit(() -> apply(flightId, occupancy));
+    }
+
+    public void remove(Long flightId) {
+        afterCommit(() -> apply(flightId, null));
+    }
+
+    public BatchEvaluation newBatchEvaluation() {
+        return new BatchEvaluation();
+    }
+
+    private DaySchedules day(LocalDate date) {
+        GateDay day = days.get(date, GateDay::new);
+        day.refreshIfStale();
+        return day.current();
+    }
+
+    private void apply(Long flightId, Occupancy occupancy) {
+        if (flightId == null) {
+            return;
+        }
+        // The flight may have moved from another day, so every cached day drops its old entry.
+        // Days not cached yet read the committed row when they are loaded.
+        LocalDate occupiedDay = occupancy != null ? occupancy.key().flightDate() : null;
+        for (GateDay day : days.asMap().values()) {
+            day.apply(flightId, day.date.equals(occupiedDay) ? occupancy : null);
+        }
+    }
+
+    private boolean isOccupyingGate(OperationalFlight flight) {
+        return flight.getId() != null
+                && Boolean.TRUE.equals(flight.getIsActive())
+                && flight.getStatus() != FlightStatus.CANCELLED
+                && normalize(flight.getGate()) != null;
+    }
+
+    private Occupancy toOccupancy(Long flightId, String flightNumber, Long stationId, String terminal, String gate,
+                                  LocalDate date, LocalTime departureTime) {
+        String normalizedGate = normalize(gate);
+        if (stationId == null || normalizedGate == null || date == null || departureTime == null) {
+            return null;
+        }
+
+        String normalizedTerminal = normalize(terminal);
+        int departureMinute = departureTime.toSecondOfDay() / 60;
+        int startMinute = departureMinute - (int) properties.getOccupancyBeforeDeparture().toMinutes();
+        int endMinute = departureMinute + (int) properties.getOccupancyAfterDeparture().toMinutes();
+
+        GateKey key = new GateKey(stationId, normalizedTerminal != null ? normalizedTerminal : "", normalizedGate, date);
+        return new Occupancy(flightId, flightNumber, key, startMinute, endMinute);
+    }
+
+    static LocalTime effectiveDepartureTime(LocalTime scheduled, LocalTime actual, Integer departureDelay) {
+        if (actual != null) {
+            return actual;
+        }
+        if (scheduled != null && departureDelay != null && departureDelay > 0) {
+            return scheduled.plusMinutes(departureDelay);
+        }
+        return scheduled;
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toUpperCase();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public record GateKey(Long stationId, String terminal, String gate, LocalDate flightDate) {
+
+        GateKey onDay(LocalDate day) {
+            return day.equals(flightDate) ? this : new GateKey(stationId, terminal, gate, day);
+        }
+    }
+
+    public record Occupancy(Long flightId, String flightNumber, GateKey key, int startMinute, int endMinute) {
+
+        boolean overlaps(int otherStart, int otherEnd) {
+            return startMinute < otherEnd && otherStart < endMinute;
+        }
+    }
+
+    private static class GateDaySchedule {
+
+        private static final Comparator<Occupancy> BY_START = Comparator.comparingInt(Occupancy::startMinute)
+                .thenComparing(Occupancy::flightId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        private final NavigableSet<Occupancy> occupancies = new ConcurrentSkipListSet<>(BY_START);
+        private volatile int maxLength;
+
+        void add(Occupancy occupancy) {
+            maxLength = Math.max(maxLength, occupancy.endMinute() - occupancy.startMinute());
+            occupancies.add(occupancy);
+        }
+
+        void remove(Occupancy occupancy) {
+            occupancies.remove(occupancy);
+        }
+
+        void collectOverlapping(int startMinute, int endMinute, Long excludeFlightId, List<Occupancy> result) {
+            // Nothing starting earlier than (start - maxLength) can still be occupying the gate
+            Occupancy from = new Occupancy(null, null, null, startMinute - maxLength, 0);
+            Occupancy to = new Occupancy(null, null, null, endMinute, 0);
+            for (Occupancy occupancy : occupancies.subSet(from, true, to, false)) {
+                if (occupancy.overlaps(startMinute, endMinute) && !occupancy.flightId().equals(excludeFlightId)) {
+                    result.add(occupancy);
+                }
+            }
+        }
+    }
+
+    private static final class DaySchedules {
+
+        private final Map<GateKey, GateDaySchedule> byGate = new ConcurrentHashMap<>();
+        private final Map<Long, Occupancy> byFlight = new ConcurrentHashMap<>();
+
+        GateDaySchedule schedule(GateKey key) {
+            return byGate.get(key);
+        }
+
+        void apply(Long flightId, Occupancy occupancy) {
+            Occupancy previous = occupancy != null ? byFlight.put(flightId, occupancy) : byFlight.remove(flightId);
+            if (previous != null) {
+                GateDaySchedule schedule = byGate.get(previous.key());
+                if (schedule != null) {
+                    schedule.remove(previous);
+                }
+            }
+            if (occupancy != null) {
+                byGate.computeIfAbsent(occupancy.key(), key -> new GateDaySchedule()).add(occupancy);
+            }
+        }
+    }
+
+    private record Change(Long flightId, Occupancy occupancy) {
+    }
+
+    private class GateDay {
+
+        private final LocalDate date;
+        private final ReentrantLock seedLock = new ReentrantLock();
+        private volatile DaySchedules schedules;
+        private volatile long seededAt;
+        // Changes committed while a load runs, replayed onto its result; guarded by this
+        private List<Change> pending;
+
+        GateDay(LocalDate date) {
+            this.date = date;
+        }
+
+        DaySchedules current() {
+            return schedules;
+        }
+
+        synchronized void apply(Long flightId, Occupancy occupancy) {
+            if (schedules != null) {
+                schedules.apply(flightId, occupancy);
+            }
+            if (pending != null) {
+                pending.add(new Change(flightId, occupancy));
+            }
+        }
+
+        void refreshIfStale() {
+            if (schedules == null) {
+                seedLock.lock();
+                try {
+                    if (schedules == null) {
+                        seed();
+                    }
+                } finally {
+                    seedLock.unlock();
+                }
+                return;
+            }
+
+            // Readers keep using the previous schedules while one of them reloads the day
+            if (isStale() && seedLock.tryLock()) {
+                try {
+                    if (isStale()) {
+                        seed();
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Reloading gate occupancy for {} failed: {}", date, e.getMessage());
+                } finally {
+                    seedLock.unlock();
+                }
+            }
+        }
+
+        private boolean isStale() {
+            return System.currentTimeMillis() - seededAt >= properties.getReseedInterval().toMillis();
+        }
+
+        private void seed() {
+            synchronized (this) {
+                pending = new ArrayList<>();
+            }
+            List<GateAssignment> assignments;
+            try {
+                assignments = flightRepository.findGateAssignmentsByFlightDate(date, FlightStatus.CANCELLED);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    pending = null;
+                }
+                throw e;
+            }
+
+            DaySchedules seeded = new DaySchedules();
+            for (GateAssignment assignment : assignments) {
+                Occupancy occupancy = toOccupancy(assignment.id(), assignment.flightNumber(),
+                        assignment.originStationId(), assignment.terminal(), assignment.gate(), assignment.flightDate(),
+                        effectiveDepartureTime(assignment.scheduledDepartureTime(),
+                                assignment.actualDepartureTime(), assignment.departureDelay()));
+                if (occupancy != null) {
+                    seeded.apply(occupancy.flightId(), occupancy);
+                }
+            }
+            synchronized (this) {
+                // A write that committed after the query read its rows wins over what the query returned
+                pending.forEach(change -> seeded.apply(change.flightId(), change.occupancy()));
+                pending = null;
+                schedules = seeded;
+                seededAt = System.currentTimeMillis();
+            }
+            log.debug("Loaded {} gate assignments for {}", assignments.size(), date);
+        }
+    }
+
+    /**
+     * Tracks gates reserved by earlier rows of an upload, so rows are checked against the index
+     * and against each other without touching the database.
+     */
+    public class BatchEvaluation {
+
+        private final Map<GateKey, GateDaySchedule> reserved = new ConcurrentHashMap<>();
+        private long nextPlaceholderId = -1;
+
+        public List<Occupancy> findOverlapping(Long stationId, String terminal, String gate, LocalDate date,
+                                               LocalTime departureTime) {
+            List<Occupancy> overlapping = new ArrayList<>(
+                    GateOccupancyIndex.this.findOverlapping(stationId, terminal, gate, date, departureTime, null));
+
+            Occupancy candidate = toOccupancy(null, null, stationId, terminal, gate, date, departureTime);
+            if (candidate != null) {
+                for (int dayOffset = -1; dayOffset <= 1; dayOffset++) {
+                    GateDaySchedule schedule = reserved.get(candidate.key().onDay(date.plusDays(dayOffset)));
+                    if (schedule != null) {
+                        int shift = dayOffset * MINUTES_PER_DAY;
+                        schedule.collectOverlapping(candidate.startMinute() - shift, candidate.endMinute() - shift,
+                                null, overlapping);
+                    }
+                }
+            }
+            return overlapping;
+        }
+
+        public synchronized void reserve(String flightNumber, Long stationId, String terminal, String gate,
+                                         LocalDate date, LocalTime departureTime) {
+            Occupancy occupancy = toOccupancy(nextPlaceholderId--, flightNumber, stationId, terminal, gate, date, departureTime);
+            if (occupancy != null) {
+                reserved.computeIfAbsent(occupancy.key(), key -> new GateDaySchedule()).add(occupancy);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.flightmanagement.flight.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.response.LiveFlightStatusDto;
+import com.flightmanagement.flight.entity.OperationalFlight;
+import com.flightmanagement.flight.repository.OperationalFlightRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoded live board per (date, airline scope). A board is queried and serialized once, then served
+ * as bytes to every poller until a write to that day and airline invalidates it or it reaches
+ * {@code app.live-board.max-age}. ETags are digests of the bytes, so every instance agrees on them.
+ */
+@Component
+@Slf4j
+public class LiveBoardCache {
+
+    // Scope key for boards covering all airlines
+    private static final Long ALL_AIRLINES = 0L;
+
+    private final OperationalFlightRepository flightRepository;
+    private final ObjectWriter boardWriter;
+    private final FlightServiceProperties.LiveBoard properties;
+    private final Cache<BoardKey, LiveBoard> boards;
+    private final AtomicLong versions = new AtomicLong();
+
+    public LiveBoardCache(OperationalFlightRepository flightRepository, ObjectMapper objectMapper,
+                          FlightServiceProperties properties) {
+        this.flightRepository = flightRepository;
+        // Same mapper and declared type as the MVC converter used for the list, so the payload is unchanged
+        this.boardWriter = objectMapper.writerFor(new TypeReference<List<LiveFlightStatusDto>>() {
+        });
+        this.properties = properties.getLiveBoard();
+        this.boards = Caffeine.newBuilder()
+                .maximumSize(this.properties.getMaximumSize())
+                .expireAfterWrite(this.properties.getMaxAge())
+                .build();
+    }
+
+    /**
+     * Current board for the day; {@code airlineId} {@code null} means all airlines.
+     * Concurrent pollers of a missing board wait for a single build.
+     */
+    public LiveBoard getBoard(LocalDate date, Long airlineId) {
+        return boards.get(new BoardKey(date, airlineId != null ? airlineId : ALL_AIRLINES), this::build);
+    }
+
+    /**
+     * Board whose query began after {@code since}, a {@link System#nanoTime()} reading. Used when a change is
+     * known to have happened at that point that may not have invalidated this instance's board, such as a
+     * write on another instance.
+     */
+    public LiveBoard getBoardBuiltAfter(LocalDate date, Long airlineId, long since) {
+        BoardKey key = new BoardKey(date, airlineId != null ? airlineId : ALL_AIRLINES);
+        LiveBoard board = boards.get(key, this::build);
+        while (board.builtAt() - since <= 0) {
+            // Conditional remove, so concurrent callers still share a single rebuild
+            boards.asMap().remove(key, board);
+            board = boards.get(key, this::build);
+        }
+        return board;
+    }
+
+    public void invalidate(OperationalFlight flight) {
+        if (flight == null || flight.getFlightDate() == null) {
+            return;
+        }
+        LocalDate date = flight.getFlightDate();
+        Long airlineId = flight.getAirlineId();
+        afterCommit(() -> {
+            boards.invalidate(new BoardKey(date, ALL_AIRLINES));
+            if (airlineId != null) {
+                boards.invalidate(new BoardKey(date, airlineId));
+            }
+        });
+    }
+
+    private LiveBoard build(BoardKey key) {
+        long builtAt = System.nanoTime();
+        List<OperationalFlight> flights = ALL_AIRLINES.equals(key.airlineId())
+                ? flightRepository.findByFlightDate(key.date(), null).getContent()
+                : flightRepository.findByAirlineIdAndFlightDate(key.airlineId(), key.date(), null).getContent();
+
+        try {
+            byte[] json = boardWriter.writeValueAsBytes(flights.stream().map(LiveBoardCache::toLiveStatusDto).toList());
+            byte[] gzip = properties.isGzip() ? gzip(json) : null;
+            String digest = DigestUtils.md5DigestAsHex(json);
+
+            log.debug("Built live board {} with {} flights ({} bytes)", key, flights.size(), json.length);
+            return new LiveBoard(versions.incrementAndGet(), builtAt, "\"" + digest + "\"", json,
+                    gzip != null ? "\"" + digest + "-gzip\"" : null, gzip);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode live board " + key, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static LiveFlightStatusDto toLiveStatusDto(OperationalFlight flight) {
+        LiveFlightStatusDto dto = new LiveFlightStatusDto();
+        dto.setId(flight.getId());
+        dto.setFlightNumber(flight.getFlightNumber());
+        dto.setAirlineCode(flight.getAirlineCode());
+        dto.setAircraftType(flight.getAircraftType());
+        dto.setFlightDate(flight.getFlightDate());
+        dto.setScheduledDepartureTime(flight.getScheduledDepartureTime());
+        dto.setScheduledArrivalTime(flight.getScheduledArrivalTime());
+        dto.setActualDepartureTime(flight.getActualDepartureTime());
+        dto.setActualArrivalTime(flight.getActualArrivalTime());
+        dto.setOriginIcaoCode(flight.getOriginIcaoCode());
+        dto.setDestinationIcaoCode(flight.getDestinationIcaoCode());
+        dto.setGate(flight.getGate());
+        dto.setTerminal(flight.getTerminal());
+        dto.setStatus(flight.getStatus());
+        dto.setDepartureDelay(flight.getDepartureDelay());
+        dto.setArrivalDelay(flight.getArrivalDelay());
+        dto.setIsOnTime(flight.getArrivalDelay() != null
+                ? flight.getArrivalDelay() <= DailySummaryService.ON_TIME_THRESHOLD_MINUTES : null);
+        return dto;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record BoardKey(LocalDate date, Long airlineId) {
+    }
+
+    /**
+     * One encoded board. {@code version} only grows on this instance; the ETags are content digests.
+     * {@code builtAt} is the {@link System#nanoTime()} reading taken before the board was queried.
+     */
+    public record LiveBoard(long version, long builtAt, String etag, byte[] json, String gzipEtag, byte[] gzip) {
+    }
+}
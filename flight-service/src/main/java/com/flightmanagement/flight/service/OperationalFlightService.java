@@ -1,8 +1,12 @@
 package com.flightmanagement.flight.service;
 
+import com.flightmanagement.flight.dto.projection.FlightSummary;
+import com.flightmanagement.flight.dto.reference.FlightReferences;
+import com.flightmanagement.flight.dto.request.FlightCursor;
+import com.flightmanagement.flight.dto.request.FlightSearchCriteria;
 import com.flightmanagement.flight.dto.request.OperationalFlightCreateRequestDto;
+import com.flightmanagement.flight.dto.response.CursorPage;
 import com.flightmanagement.flight.dto.response.OperationalFlightResponseDto;
-import com.flightmanagement.flight.dto.response.PagedResponse;
 import com.flightmanagement.flight.entity.OperationalFlight;
 import com.flightmanagement.flight.exception.FlightConflictException;
 import com.flightmanagement.flight.exception.FlightNotFoundException;
@@ -12,13 +16,11 @@ import com.flightmanagement.flight.repository.OperationalFlightRepository;
 import com.flightmanagement.flight.security.UserContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -29,21 +31,63 @@ public class OperationalFlightService {
     private final OperationalFlightRepository flightRepository;
     private final OperationalFlightMapperImpl flightMapper;
     private final ConflictDetectionService conflictService;
-    private final ReferenceDataService referenceService;
+    private final FlightEnrichmentService enrichmentService;
     private final EventPublishService eventPublishService;
     private final WebSocketService webSocketService;
     private final FlightVersionService versionService;
-
-    public PagedResponse<OperationalFlightResponseDto> getFlights(Pageable pageable, UserContext userContext) {
-        Page<OperationalFlight> flights;
+    private final GateOccupancyIndex gateOccupancyIndex;
+    private final DailySummaryService dailySummaryService;
+    private final LiveBoardCache liveBoardCache;
+
+    @Transactional(readOnly = true)
+    public CursorPage<OperationalFlightResponseDto> getFlights(FlightCursor cursor, int size, boolean includeTotal,
+                                                               UserContext userContext) {
+        // One extra row tells whether another page follows without counting
+        Limit limit = Limit.of(size + 1);
+        List<OperationalFlight> flights;
+        Long total = null;
 
         if (userContext.isAirlineUser()) {
-            flights = flightRepository.findByAirlineId(userContext.getAirlineId(), pageable);
+            Long airlineId = userContext.getAirlineId();
+            flights = cursor == null
+                    ? flightRepository.findFirstPageByAirlineId(airlineId, limit)
+                    : flightRepository.findPageAfterByAirlineId(airlineId, cursor.flightDate(),
+                            cursor.scheduledDepartureTime(), cursor.id(), limit);
+            if (includeTotal) {
+                total = flightRepository.countByAirlineId(airlineId);
+            }
         } else {
-            flights = flightRepository.findAll(pageable);
+            flights = cursor == null
+                    ? flightRepository.findFirstPage(limit)
+                    : flightRepository.findPageAfter(cursor.flightDate(), cursor.scheduledDepartureTime(), cursor.id(),
+                            limit);
+            if (includeTotal) {
+                total = flightRepository.count();
+            }
         }
 
-        return createPagedResponse(flights);
+        return createCursorPage(flights, size, total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<FlightSummary> searchFlights(FlightSearchCriteria criteria, int size, UserContext userContext) {
+        if (userContext.isAirlineUser()) {
+            criteria.setAirlineId(userContext.getAirlineId());
+        }
+
+        FlightCursor cursor = FlightCursor.decode(criteria.getCursor());
+        List<FlightSummary> rows = flightRepository.search(criteria, cursor, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<FlightSummary> page = hasNext ? rows.subList(0, size) : rows;
+        FlightSummary last = hasNext ? page.get(page.size() - 1) : null;
+
+        return CursorPage.<FlightSummary>builder()
+                .content(page)
+                .size(page.size())
+                .nextCursor(last != null
+                        ? new FlightCursor(last.flightDate(), last.scheduledDepartureTime(), last.id()).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     public OperationalFlightResponseDto getFlightById(Long id, UserContext userContext) {
@@ -55,22 +99,25 @@ public class OperationalFlightService {
         // Validate user can create flight for airline
         validateAirlineAccess(request.getAirlineId(), userContext);
 
-        // Validate reference data and enrich
-        enrichFlightWithReferenceData(request);
-
         // Conflict detection
         List<ConflictDetectionService.Conflict> conflicts = conflictService.detectConflicts(request);
         if (!conflicts.isEmpty()) {
             throw new FlightConflictException("Conflicts detected", conflicts);
         }
 
+        // Resolve reference data once for this request
+        FlightReferences references = enrichmentService.newResolutionContext().resolve(request);
+
         // Create operational flight
-        OperationalFlight flight = flightMapper.toEntity(request);
+        OperationalFlight flight = flightMapper.toEntity(request, references);
         flight.setCreatedBy(userContext.getUsername());
         flight.setUpdatedBy(userContext.getUsername());
         flight.setVersion(1);
 
         flight = flightRepository.save(flight);
+        gateOccupancyIndex.register(flight);
+        dailySummaryService.recordChange(null, flight);
+        liveBoardCache.invalidate(flight);
 
         // Create initial version
         versionService.createInitialVersion(flight);
@@ -86,19 +133,26 @@ public class OperationalFlightService {
     }
 
     public OperationalFlightResponseDto updateFlight(Long id, OperationalFlightCreateRequestDto request, UserContext userContext) {
-        OperationalFlight existingFlight = getFlightWithAccessCheck(id, userContext);
+        OperationalFlight existingFlight = getFlightForUpdate(id, userContext);
 
         // Store previous state for versioning and events
         OperationalFlight previousState = cloneFlight(existingFlight);
+        DailySummaryService.FlightTally previousTally = dailySummaryService.capture(existingFlight);
 
         // Determine if major change (new version needed)
         boolean isMajorChange = versionService.isMajorChange(existingFlight, request);
 
-        // Enrich with reference data
-        enrichFlightWithReferenceData(request);
+        // Gate occupancy check against every other flight at the station
+        List<ConflictDetectionService.Conflict> gateConflicts = conflictService.detectGateConflicts(request, existingFlight);
+        if (!gateConflicts.isEmpty()) {
+            throw new FlightConflictException("Conflicts detected", gateConflicts);
+        }
+
+        // Resolve reference data once for this request
+        FlightReferences references = enrichmentService.newResolutionContext().resolve(request);
 
         // Update flight
-        flightMapper.updateEntityFromDto(request, existingFlight);
+        flightMapper.updateEntityFromDto(request, existingFlight, references);
         existingFlight.setUpdatedBy(userContext.getUsername());
 
         if (isMajorChange) {
@@ -106,6 +160,10 @@ public class OperationalFlightService {
         }
 
         existingFlight = flightRepository.save(existingFlight);
+        gateOccupancyIndex.register(existingFlight);
+        dailySummaryService.recordChange(previousTally, existingFlight);
+        liveBoardCache.invalidate(previousState);
+        liveBoardCache.invalidate(existingFlight);
 
         // Create version entry
         versionService.createVersionEntry(existingFlight, previousState, request, isMajorChange);
@@ -121,11 +179,15 @@ public class OperationalFlightService {
     }
 
     public void deleteFlight(Long id, UserContext userContext) {
-        OperationalFlight flight = getFlightWithAccessCheck(id, userContext);
+        OperationalFlight flight = getFlightForUpdate(id, userContext);
+        DailySummaryService.FlightTally previousTally = dailySummaryService.capture(flight);
 
         flight.setIsActive(false);
         flight.setUpdatedBy(userContext.getUsername());
         flightRepository.save(flight);
+        gateOccupancyIndex.remove(flight.getId());
+        dailySummaryService.recordChange(previousTally, flight);
+        liveBoardCache.invalidate(flight);
 
         eventPublishService.publishFlightEvent("FLIGHT_DELETED", flight, userContext);
         log.info("Deleted flight: {}", flight.getFlightNumber());
@@ -140,41 +202,21 @@ public class OperationalFlightService {
     private OperationalFlight getFlightWithAccessCheck(Long id, UserContext userContext) {
         OperationalFlight flight = flightRepository.findById(id)
                 .orElseThrow(() -> new FlightNotFoundException("Flight not found with id: " + id));
-
-        if (userContext.isAirlineUser() && !flight.getAirlineId().equals(userContext.getAirlineId())) {
-            throw new UnauthorizedFlightAccessException("Cannot access flights from different airline");
-        }
-
+        checkAirlineAccess(flight, userContext);
         return flight;
     }
 
-    private void enrichFlightWithReferenceData(OperationalFlightCreateRequestDto request) {
-        try {
-            // Fetch and cache airline data
-            Map<String, Object> airline = referenceService.getAirline(request.getAirlineId());
-            if (airline != null) {
-                // Airline data will be used in mapper
-                log.debug("Enriched airline data for ID: {}", request.getAirlineId());
-            }
-
-            // Fetch and cache aircraft data
-            Map<String, Object> aircraft = referenceService.getAircraft(request.getAircraftId());
-            if (aircraft != null) {
-                log.debug("Enriched aircraft data for ID: {}", request.getAircraftId());
-            }
-
-            // Fetch and cache station data
-            Map<String, Object> originStation = referenceService.getStation(request.getOriginStationId());
-            Map<String, Object> destinationStation = referenceService.getStation(request.getDestinationStationId());
-
-            if (originStation != null && destinationStation != null) {
-                log.debug("Enriched station data for origin: {} and destination: {}",
-                        request.getOriginStationId(), request.getDestinationStationId());
-            }
+    private OperationalFlight getFlightForUpdate(Long id, UserContext userContext) {
+        // Locked so that concurrent updates capture the previous tally one after another
+        OperationalFlight flight = flightRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new FlightNotFoundException("Flight not found with id: " + id));
+        checkAirlineAccess(flight, userContext);
+        return flight;
+    }
 
-        } catch (Exception e) {
-            log.warn("Failed to enrich flight with reference data: {}", e.getMessage());
-            // Continue with flight creation even if reference data enrichment fails
+    private void checkAirlineAccess(OperationalFlight flight, UserContext userContext) {
+        if (userContext.isAirlineUser() && !flight.getAirlineId().equals(userContext.getAirlineId())) {
+            throw new UnauthorizedFlightAccessException("Cannot access flights from different airline");
         }
     }
 
@@ -192,15 +234,17 @@ public class OperationalFlightService {
                 .build();
     }
 
-    private PagedResponse<OperationalFlightResponseDto> createPagedResponse(Page<OperationalFlight> page) {
-        return PagedResponse.<OperationalFlightResponseDto>builder()
-                .content(page.getContent().stream().map(flightMapper::toResponseDto).toList())
-                .page(page.getNumber())
-                .size(page.getSize())
-                .totalElements(page.getTotalElements())
-                .totalPages(page.getTotalPages())
-                .first(page.isFirst())
-                .last(page.isLast())
+    private CursorPage<OperationalFlightResponseDto> createCursorPage(List<OperationalFlight> rows, int size,
+                                                                      Long total) {
+        boolean hasNext = rows.size() > size;
+        List<OperationalFlight> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPage.<OperationalFlightResponseDto>builder()
+                .content(page.stream().map(flightMapper::toResponseDto).toList())
+                .size(page.size())
+                .nextCursor(hasNext ? FlightCursor.after(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .totalElements(total)
                 .build();
     }
 }
\ No newline at end of file
@@ -1,51 +1,80 @@
 package com.flightmanagement.flight.service;
 
+import com.flightmanagement.flight.cache.CacheGenerations;
+import com.flightmanagement.flight.cache.CachedValue;
+import com.flightmanagement.flight.cache.NegativeReferenceCache;
+import com.flightmanagement.flight.cache.ReferenceCache;
+import com.flightmanagement.flight.cache.TwoTierCache;
+import com.flightmanagement.flight.cache.TwoTierCacheManager;
 import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.reference.AircraftRef;
+import com.flightmanagement.flight.dto.reference.AirlineRef;
+import com.flightmanagement.flight.dto.reference.ReferenceTuple;
+import com.flightmanagement.flight.dto.reference.ResolvedReferences;
+import com.flightmanagement.flight.dto.reference.StationRef;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReferenceDataService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private static final int BATCH_CHUNK_SIZE = 100;
+    private static final int RESOLVE_CHUNK_SIZE = 1000;
+
     private final RestTemplate restTemplate;
     private final FlightServiceProperties properties;
+    private final CacheManager cacheManager;
+    private final ReferenceCache referenceCache;
+    private final NegativeReferenceCache negativeCache;
+    private final CacheGenerations cacheGenerations;
+
+    @PostConstruct
+    void registerRefreshLoaders() {
+        if (!(cacheManager instanceof TwoTierCacheManager twoTierCacheManager)) {
+            return;
+        }
+        twoTierCacheManager.registerRefreshLoader("airlines", (id, current) ->
+                fetchById("/api/v1/airlines/", (Long) id, "airline", AirlineRef.class, current));
+        twoTierCacheManager.registerRefreshLoader("stations", (id, current) ->
+                fetchById("/api/v1/stations/", (Long) id, "station", StationRef.class, current));
+        twoTierCacheManager.registerRefreshLoader("aircraft", (id, current) ->
+                fetchById("/api/v1/aircraft/", (Long) id, "aircraft", AircraftRef.class, current));
+        twoTierCacheManager.registerRefreshLoader("airlines-by-code", (code, current) ->
+                fetchByKey("/api/v1/airlines/code/", (String) code, "airline", AirlineRef.class, current));
+        twoTierCacheManager.registerRefreshLoader("stations-by-icao", (code, current) ->
+                fetchByKey("/api/v1/stations/icao/", (String) code, "station", StationRef.class, current));
+        twoTierCacheManager.registerRefreshLoader("stations-by-iata", (code, current) ->
+                fetchByKey("/api/v1/stations/iata/", (String) code, "station", StationRef.class, current));
+        twoTierCacheManager.registerRefreshLoader("aircraft-by-type", (type, current) ->
+                fetchByKey("/api/v1/aircraft/type/", (String) type, "aircraft", AircraftRef.class, current));
+    }
 
     @CircuitBreaker(name = "reference-manager", fallbackMethod = "getAirlineFromCache")
-    @Cacheable(value = "airlines", key = "#airlineId")
-    public Map<String, Object> getAirline(Long airlineId) {
+    public AirlineRef getAirline(Long airlineId) {
         try {
-            String url = properties.getReferenceManager().getBaseUrl() + "/api/v1/airlines/" + airlineId;
-            log.debug("Fetching airline data from: {}", url);
-
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                Map<String, Object> airline = response.getBody();
-
-                // Cache with configured TTL
-                redisTemplate.opsForValue().set("airline:" + airlineId, airline,
-                        properties.getRedis().getTtl().getAirlines());
-                log.debug("Cached airline data for ID: {}", airlineId);
-
-                return airline;
-            }
-
-            throw new RuntimeException("Failed to fetch airline data");
-
+            return referenceCache.getOrLoad("airlines", airlineId, AirlineRef.class,
+                    () -> fetchById("/api/v1/airlines/", airlineId, "airline", AirlineRef.class, null));
         } catch (Exception e) {
             log.error("Failed to fetch airline data for ID: {}", airlineId, e);
             return getAirlineFromCache(airlineId, e);
@@ -53,26 +82,10 @@ public class ReferenceDataService {
     }
 
     @CircuitBreaker(name = "reference-manager", fallbackMethod = "getStationFromCache")
-    @Cacheable(value = "stations", key = "#stationId")
-    public Map<String, Object> getStation(Long stationId) {
+    public StationRef getStation(Long stationId) {
         try {
-            String url = properties.getReferenceManager().getBaseUrl() + "/api/v1/stations/" + stationId;
-            log.debug("Fetching station data from: {}", url);
-
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                Map<String, Object> station = response.getBody();
-
-                redisTemplate.opsForValue().set("station:" + stationId, station,
-                        properties.getRedis().getTtl().getStations());
-                log.debug("Cached station data for ID: {}", stationId);
-
-                return station;
-            }
-
-            throw new RuntimeException("Failed to fetch station data");
-
+            return referenceCache.getOrLoad("stations", stationId, StationRef.class,
+                    () -> fetchById("/api/v1/stations/", stationId, "station", StationRef.class, null));
         } catch (Exception e) {
             log.error("Failed to fetch station data for ID: {}", stationId, e);
             return getStationFromCache(stationId, e);
@@ -80,208 +93,131 @@ public class ReferenceDataService {
     }
 
     @CircuitBreaker(name = "reference-manager", fallbackMethod = "getAircraftFromCache")
-    @Cacheable(value = "aircraft", key = "#aircraftId")
-    public Map<String, Object> getAircraft(Long aircraftId) {
+    public AircraftRef getAircraft(Long aircraftId) {
         try {
-            String url = properties.getReferenceManager().getBaseUrl() + "/api/v1/aircraft/" + aircraftId;
-            log.debug("Fetching aircraft data from: {}", url);
-
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                Map<String, Object> aircraft = response.getBody();
-
-                redisTemplate.opsForValue().set("aircraft:" + aircraftId, aircraft,
-                        properties.getRedis().getTtl().getAircraft());
-                log.debug("Cached aircraft data for ID: {}", aircraftId);
-
-                return aircraft;
-            }
-
-            throw new RuntimeException("Failed to fetch aircraft data");
-
+            return referenceCache.getOrLoad("aircraft", aircraftId, AircraftRef.class,
+                    () -> fetchById("/api/v1/aircraft/", aircraftId, "aircraft", AircraftRef.class, null));
         } catch (Exception e) {
             log.error("Failed to fetch aircraft data for ID: {}", aircraftId, e);
             return getAircraftFromCache(aircraftId, e);
         }
     }
 
-    // New method: Resolve airline by code
-    @CircuitBreaker(name = "reference-manager", fallbackMethod = "getAirlineByCodeFromCache")
-    public Optional<Map<String, Object>> getAirlineByCode(String airlineCode) {
-        try {
-            String url = properties.getReferenceManager().getBaseUrl() + "/api/v1/airlines?code=" + airlineCode;
-            log.debug("Fetching airline by code from: {}", url);
-
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                Map<String, Object> pageResponse = response.getBody();
-                List<Map<String, Object>> content = (List<Map<String, Object>>) pageResponse.get("content");
+    private CachedValue fetchById(String path, Long id, String entityName, Class<?> type, CachedValue current) {
+        String url = properties.getReferenceManager().getBaseUrl() + path + id;
+        log.debug("Fetching {} data from: {}", entityName, url);
 
-                if (!content.isEmpty()) {
-                    Map<String, Object> airline = content.get(0);
-                    Long airlineId = ((Number) airline.get("id")).longValue();
-
-                    // Cache both by ID and code
-                    redisTemplate.opsForValue().set("airline:" + airlineId, airline,
-                            properties.getRedis().getTtl().getAirlines());
-                    redisTemplate.opsForValue().set("airline:code:" + airlineCode, airline,
-                            properties.getRedis().getTtl().getAirlines());
-
-                    return Optional.of(airline);
-                }
-            }
+        CachedValue loaded = fetch(url, type, current);
+        if (loaded != null) {
+            return loaded;
+        }
 
-            return Optional.empty();
+        throw new RuntimeException("Failed to fetch " + entityName + " data");
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to fetch airline by code: {}", airlineCode, e);
-            return getAirlineByCodeFromCache(airlineCode, e);
-        }
+    @CircuitBreaker(name = "reference-manager", fallbackMethod = "getAirlineByCodeFromCache")
+    public Optional<AirlineRef> getAirlineByCode(String airlineCode) {
+        return getByKey("airlines-by-code", "/api/v1/airlines/code/", airlineCode, "airline", AirlineRef.class);
     }
 
-    // New method: Resolve station by ICAO code
     @CircuitBreaker(name = "reference-manager", fallbackMethod = "getStationByIcaoFromCache")
-    public Optional<Map<String, Object>> getStationByIcao(String icaoCode) {
-        try {
-            String url = properties.getReferenceManager().getBaseUrl() + "/api/v1/stations/search?query=" + icaoCode;
-            log.debug("Fetching station by ICAO from: {}", url);
-
-            ResponseEntity<List> response = restTemplate.getForEntity(url, List.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                List<Map<String, Object>> stations = response.getBody();
-
-                Optional<Map<String, Object>> station = stations.stream()
-                        .filter(s -> icaoCode.equals(s.get("icaoCode")))
-                        .findFirst();
-
-                if (station.isPresent()) {
-                    Map<String, Object> stationData = station.get();
-                    Long stationId = ((Number) stationData.get("id")).longValue();
+    public Optional<StationRef> getStationByIcao(String icaoCode) {
+        return getByKey("stations-by-icao", "/api/v1/stations/icao/", icaoCode, "station", StationRef.class);
+    }
 
-                    // Cache both by ID and ICAO
-                    redisTemplate.opsForValue().set("station:" + stationId, stationData,
-                            properties.getRedis().getTtl().getStations());
-                    redisTemplate.opsForValue().set("station:icao:" + icaoCode, stationData,
-                            properties.getRedis().getTtl().getStations());
+    @CircuitBreaker(name = "reference-manager", fallbackMethod = "getStationByIataFromCache")
+    public Optional<StationRef> getStationByIata(String iataCode) {
+        return getByKey("stations-by-iata", "/api/v1/stations/iata/", iataCode, "station", StationRef.class);
+    }
 
-                    return Optional.of(stationData);
-                }
-            }
+    @CircuitBreaker(name = "reference-manager", fallbackMethod = "getAircraftByTypeFromCache")
+    public Optional<AircraftRef> getAircraftByType(String aircraftType) {
+        return getByKey("aircraft-by-type", "/api/v1/aircraft/type/", aircraftType, "aircraft", AircraftRef.class);
+    }
 
+    // Exact-key lookup against the unique columns; 404 means the code is unknown, not that the call failed
+    private <T> Optional<T> getByKey(String cacheName, String path, String key, String entityName, Class<T> type) {
+        if (key == null || negativeCache.isKnownMissing(cacheName, key)) {
             return Optional.empty();
+        }
 
-        } catch (Exception e) {
-            log.error("Failed to fetch station by ICAO: {}", icaoCode, e);
-            return getStationByIcaoFromCache(icaoCode, e);
+        T entity = referenceCache.getOrLoad(cacheName, key, type,
+                () -> fetchByKey(path, key, entityName, type, null));
+        if (entity == null) {
+            negativeCache.recordMissing(cacheName, key);
         }
+        return Optional.ofNullable(entity);
     }
 
-    // New method: Resolve aircraft by type
-    @CircuitBreaker(name = "reference-manager", fallbackMethod = "getAircraftByTypeFromCache")
-    public Optional<Map<String, Object>> getAircraftByType(String aircraftType) {
-        try {
-            String url = properties.getReferenceManager().getBaseUrl() + "/api/v1/aircraft?type=" + aircraftType;
-            log.debug("Fetching aircraft by type from: {}", url);
+    private CachedValue fetchByKey(String path, String key, String entityName, Class<?> type, CachedValue current) {
+        String url = properties.getReferenceManager().getBaseUrl() + path + key;
+        log.debug("Fetching {} by key from: {}", entityName, url);
 
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                Map<String, Object> pageResponse = response.getBody();
-                List<Map<String, Object>> content = (List<Map<String, Object>>) pageResponse.get("content");
-
-                if (!content.isEmpty()) {
-                    Map<String, Object> aircraft = content.get(0);
-                    Long aircraftId = ((Number) aircraft.get("id")).longValue();
-
-                    // Cache both by ID and type
-                    redisTemplate.opsForValue().set("aircraft:" + aircraftId, aircraft,
-                            properties.getRedis().getTtl().getAircraft());
-                    redisTemplate.opsForValue().set("aircraft:type:" + aircraftType, aircraft,
-                            properties.getRedis().getTtl().getAircraft());
-
-                    return Optional.of(aircraft);
-                }
-            }
+        try {
+            return fetch(url, type, current);
+        } catch (HttpClientErrorException.NotFound e) {
+            return null;
+        }
+    }
 
-            return Optional.empty();
+    /**
+     * GET that revalidates {@code current} when it carries an ETag: a 304 keeps the cached value and only
+     * restarts its TTL. Returns {@code null} when the response has no body.
+     */
+    private CachedValue fetch(String url, Class<?> type, CachedValue current) {
+        HttpHeaders headers = new HttpHeaders();
+        if (current != null && current.getEtag() != null) {
+            headers.setIfNoneMatch(current.getEtag());
+        }
 
-        } catch (Exception e) {
-            log.error("Failed to fetch aircraft by type: {}", aircraftType, e);
-            return getAircraftByTypeFromCache(aircraftType, e);
+        ResponseEntity<?> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), type);
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && current != null) {
+            return current.revalidated();
+        }
+        if (response.getStatusCode() != HttpStatus.OK || response.getBody() == null) {
+            return null;
         }
+        return new CachedValue(response.getBody(), System.currentTimeMillis(), response.getHeaders().getETag());
     }
 
     // Fallback methods
-    public Map<String, Object> getAirlineFromCache(Long airlineId, Exception ex) {
+    public AirlineRef getAirlineFromCache(Long airlineId, Exception ex) {
         log.warn("Using cached airline data for ID: {} due to: {}", airlineId, ex.getMessage());
-        Map<String, Object> cachedData = (Map<String, Object>) redisTemplate.opsForValue().get("airline:" + airlineId);
-        return cachedData != null ? cachedData : createFallbackAirline(airlineId);
+        AirlineRef cachedData = referenceCache.getForFallback("airlines", airlineId, AirlineRef.class);
+        return cachedData != null ? cachedData : AirlineRef.unknown(airlineId);
     }
 
-    public Map<String, Object> getStationFromCache(Long stationId, Exception ex) {
+    public StationRef getStationFromCache(Long stationId, Exception ex) {
         log.warn("Using cached station data for ID: {} due to: {}", stationId, ex.getMessage());
-        Map<String, Object> cachedData = (Map<String, Object>) redisTemplate.opsForValue().get("station:" + stationId);
-        return cachedData != null ? cachedData : createFallbackStation(stationId);
+        StationRef cachedData = referenceCache.getForFallback("stations", stationId, StationRef.class);
+        return cachedData != null ? cachedData : StationRef.unknown(stationId);
     }
 
-    public Map<String, Object> getAircraftFromCache(Long aircraftId, Exception ex) {
+    public AircraftRef getAircraftFromCache(Long aircraftId, Exception ex) {
         log.warn("Using cached aircraft data for ID: {} due to: {}", aircraftId, ex.getMessage());
-        Map<String, Object> cachedData = (Map<String, Object>) redisTemplate.opsForValue().get("aircraft:" + aircraftId);
-        return cachedData != null ? cachedData : createFallbackAircraft(aircraftId);
+        AircraftRef cachedData = referenceCache.getForFallback("aircraft", aircraftId, AircraftRef.class);
+        return cachedData != null ? cachedData : AircraftRef.unknown(aircraftId);
     }
 
-    public Optional<Map<String, Object>> getAirlineByCodeFromCache(String airlineCode, Exception ex) {
+    public Optional<AirlineRef> getAirlineByCodeFromCache(String airlineCode, Exception ex) {
         log.warn("Using cached airline data for code: {} due to: {}", airlineCode, ex.getMessage());
-        Map<String, Object> cachedData = (Map<String, Object>) redisTemplate.opsForValue().get("airline:code:" + airlineCode);
-        return Optional.ofNullable(cachedData);
+        return Optional.ofNullable(referenceCache.getForFallback("airlines-by-code", airlineCode, AirlineRef.class));
     }
 
-    public Optional<Map<String, Object>> getStationByIcaoFromCache(String icaoCode, Exception ex) {
+    public Optional<StationRef> getStationByIcaoFromCache(String icaoCode, Exception ex) {
         log.warn("Using cached station data for ICAO: {} due to: {}", icaoCode, ex.getMessage());
-        Map<String, Object> cachedData = (Map<String, Object>) redisTemplate.opsForValue().get("station:icao:" + icaoCode);
-        return Optional.ofNullable(cachedData);
-    }
-
-    public Optional<Map<String, Object>> getAircraftByTypeFromCache(String aircraftType, Exception ex) {
-        log.warn("Using cached aircraft data for type: {} due to: {}", aircraftType, ex.getMessage());
-        Map<String, Object> cachedData = (Map<String, Object>) redisTemplate.opsForValue().get("aircraft:type:" + aircraftType);
-        return Optional.ofNullable(cachedData);
+        return Optional.ofNullable(referenceCache.getForFallback("stations-by-icao", icaoCode, StationRef.class));
     }
 
-    // Fallback data creators
-    private Map<String, Object> createFallbackAirline(Long airlineId) {
-        Map<String, Object> fallback = new HashMap<>();
-        fallback.put("id", airlineId);
-        fallback.put("code", "XX");
-        fallback.put("name", "Unknown Airline");
-        fallback.put("country", "Unknown");
-        fallback.put("isActive", true);
-        return fallback;
+    public Optional<StationRef> getStationByIataFromCache(String iataCode, Exception ex) {
+        log.warn("Using cached station data for IATA: {} due to: {}", iataCode, ex.getMessage());
+        return Optional.ofNullable(referenceCache.getForFallback("stations-by-iata", iataCode, StationRef.class));
     }
 
-    private Map<String, Object> createFallbackStation(Long stationId) {
-        Map<String, Object> fallback = new HashMap<>();
-        fallback.put("id", stationId);
-        fallback.put("icaoCode", "XXXX");
-        fallback.put("name", "Unknown Station");
-        fallback.put("city", "Unknown");
-        fallback.put("country", "Unknown");
-        fallback.put("isActive", true);
-        return fallback;
-    }
-
-    private Map<String, Object> createFallbackAircraft(Long aircraftId) {
-        Map<String, Object> fallback = new HashMap<>();
-        fallback.put("id", aircraftId);
-        fallback.put("type", "Unknown");
-        fallback.put("manufacturer", "Unknown");
-        fallback.put("model", "Unknown");
-        fallback.put("capacity", 150);
-        fallback.put("isActive", true);
-        return fallback;
+    public Optional<AircraftRef> getAircraftByTypeFromCache(String aircraftType, Exception ex) {
+        log.warn("Using cached aircraft data for type: {} due to: {}", aircraftType, ex.getMessage());
+        return Optional.ofNullable(
+                referenceCache.getForFallback("aircraft-by-type", aircraftType, AircraftRef.class));
     }
 
     // Health check method
@@ -298,77 +234,122 @@ public class ReferenceDataService {
 
     // Cache invalidation methods
     public void invalidateAirlineCache(Long airlineId) {
-        redisTemplate.delete("airline:" + airlineId);
+        referenceCache.evict("airlines", airlineId);
         log.debug("Invalidated airline cache for ID: {}", airlineId);
     }
 
     public void invalidateStationCache(Long stationId) {
-        redisTemplate.delete("station:" + stationId);
+        referenceCache.evict("stations", stationId);
         log.debug("Invalidated station cache for ID: {}", stationId);
     }
 
     public void invalidateAircraftCache(Long aircraftId) {
-        redisTemplate.delete("aircraft:" + aircraftId);
+        referenceCache.evict("aircraft", aircraftId);
         log.debug("Invalidated aircraft cache for ID: {}", aircraftId);
     }
 
     public void invalidateAllCaches() {
-        redisTemplate.getConnectionFactory().getConnection().flushAll();
+        // Scoped to reference data: one INCR, the previous generation expires by TTL
+        cacheGenerations.invalidate(CacheGenerations.REFERENCE_NAMESPACE);
+        negativeCache.invalidateAll();
+        for (String cacheName : properties.getNearCache().getCaches()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache instanceof TwoTierCache twoTierCache) {
+                twoTierCache.clearLocal();
+            }
+        }
         log.info("Invalidated all reference data caches");
     }
 
     // Batch operations for performance
-    public Map<Long, Map<String, Object>> getAirlinesBatch(List<Long> airlineIds) {
-        Map<Long, Map<String, Object>> result = new HashMap<>();
-
-        for (Long airlineId : airlineIds) {
-            try {
-                Map<String, Object> airline = getAirline(airlineId);
-                if (airline != null) {
-                    result.put(airlineId, airline);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to fetch airline in batch for ID: {}", airlineId, e);
-                result.put(airlineId, createFallbackAirline(airlineId));
-            }
-        }
+    public Map<Long, AirlineRef> getAirlinesBatch(List<Long> airlineIds) {
+        return getBatch("airlines", "/api/v1/airlines", airlineIds, AirlineRef.class, AirlineRef[].class,
+                AirlineRef::id, this::getAirline);
+    }
 
-        return result;
+    public Map<Long, StationRef> getStationsBatch(List<Long> stationIds) {
+        return getBatch("stations", "/api/v1/stations", stationIds, StationRef.class, StationRef[].class,
+                StationRef::id, this::getStation);
     }
 
-    public Map<Long, Map<String, Object>> getStationsBatch(List<Long> stationIds) {
-        Map<Long, Map<String, Object>> result = new HashMap<>();
+    public Map<Long, AircraftRef> getAircraftBatch(List<Long> aircraftIds) {
+        return getBatch("aircraft", "/api/v1/aircraft", aircraftIds, AircraftRef.class, AircraftRef[].class,
+                AircraftRef::id, this::getAircraft);
+    }
 
-        for (Long stationId : stationIds) {
-            try {
-                Map<String, Object> station = getStation(stationId);
-                if (station != null) {
-                    result.put(stationId, station);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to fetch station in batch for ID: {}", stationId, e);
-                result.put(stationId, createFallbackStation(stationId));
+    @CircuitBreaker(name = "reference-manager")
+    public ResolvedReferences resolveReferences(Collection<ReferenceTuple> tuples) {
+        String url = properties.getReferenceManager().getBaseUrl() + "/api/v1/references/resolve";
+        List<ReferenceTuple> distinct = List.copyOf(new LinkedHashSet<>(tuples));
+        ResolvedReferences resolved = new ResolvedReferences();
+
+        for (int from = 0; from < distinct.size(); from += RESOLVE_CHUNK_SIZE) {
+            List<ReferenceTuple> chunk = distinct.subList(from, Math.min(from + RESOLVE_CHUNK_SIZE, distinct.size()));
+            log.debug("Resolving {} reference tuples via: {}", chunk.size(), url);
+
+            ResponseEntity<ResolvedReferences> response = restTemplate.postForEntity(
+                    url, Map.of("tuples", chunk), ResolvedReferences.class);
+            ResolvedReferences body = response.getBody();
+            if (body == null) {
+                throw new RuntimeException("Failed to resolve reference data");
             }
+
+            resolved.getAirlines().putAll(body.getAirlines());
+            resolved.getAircraft().putAll(body.getAircraft());
+            resolved.getStations().putAll(body.getStations());
         }
 
-        return result;
+        resolved.getAirlines().forEach((code, airline) -> referenceCache.put("airlines-by-code", code, airline));
+        resolved.getAircraft().forEach((type, aircraft) -> referenceCache.put("aircraft-by-type", type, aircraft));
+        resolved.getStations().forEach((icao, station) -> referenceCache.put("stations-by-icao", icao, station));
+
+        return resolved;
     }
 
-    public Map<Long, Map<String, Object>> getAircraftBatch(List<Long> aircraftIds) {
-        Map<Long, Map<String, Object>> result = new HashMap<>();
+    /**
+     * Serves what the cache already holds and fetches the misses together, one round-trip per chunk.
+     * IDs unknown to reference-manager are left out of the result.
+     */
+    private <T> Map<Long, T> getBatch(String cacheName, String path, List<Long> ids, Class<T> type,
+                                      Class<T[]> arrayType, Function<T, Long> idOf, Function<Long, T> singleLookup) {
+        Map<Long, T> result = new HashMap<>();
+
+        List<Long> misses = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(ids)) {
+            T cached = referenceCache.get(cacheName, id, type);
+            if (cached != null) {
+                result.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
 
-        for (Long aircraftId : aircraftIds) {
+        for (int from = 0; from < misses.size(); from += BATCH_CHUNK_SIZE) {
+            List<Long> chunk = misses.subList(from, Math.min(from + BATCH_CHUNK_SIZE, misses.size()));
             try {
-                Map<String, Object> aircraft = getAircraft(aircraftId);
-                if (aircraft != null) {
-                    result.put(aircraftId, aircraft);
+                String url = properties.getReferenceManager().getBaseUrl() + path + "?ids="
+                        + chunk.stream().map(String::valueOf).collect(Collectors.joining(","));
+                log.debug("Fetching {} {} from: {}", chunk.size(), cacheName, url);
+
+                ResponseEntity<T[]> response = restTemplate.getForEntity(url, arrayType);
+                List<T> entities = response.getBody() != null ? Arrays.asList(response.getBody()) : List.of();
+
+                for (T entity : entities) {
+                    Long id = idOf.apply(entity);
+                    result.put(id, entity);
+                    referenceCache.put(cacheName, id, entity);
                 }
             } catch (Exception e) {
-                log.warn("Failed to fetch aircraft in batch for ID: {}", aircraftId, e);
-                result.put(aircraftId, createFallbackAircraft(aircraftId));
+                log.warn("Bulk fetch of {} failed, falling back to single lookups: {}", cacheName, e.getMessage());
+                for (Long id : chunk) {
+                    T entity = singleLookup.apply(id);
+                    if (entity != null) {
+                        result.put(id, entity);
+                    }
+                }
             }
         }
 
         return result;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,322 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.reference.AircraftRef;
+import com.flightmanagement.flight.dto.reference.AirlineRef;
+import com.flightmanagement.flight.dto.reference.ReferenceSnapshot;
+import com.flightmanagement.flight.dto.reference.StationRef;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-memory copy of all airlines, stations and aircraft, loaded from a versioned snapshot and
+ * kept current with the deltas on {@code reference.events}. Reads never touch the network:
+ * every lookup goes against an immutable set of indexes that is swapped as a whole on change.
+ * <p>
+ * reference-manager numbers every change with one global version, so a version that never arrives
+ * is a lost delta. The store tracks the highest version up to which every delta was applied, and
+ * reloads the snapshot when a gap above it stays open for {@code app.reference-sync.gap-timeout}
+ * or reference-manager reports a different version.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataStore {
+
+    private static final EntitySchema<AirlineRef> AIRLINE_SCHEMA =
+            new EntitySchema<>(AirlineRef::id, Map.of("code", AirlineRef::code));
+    private static final EntitySchema<StationRef> STATION_SCHEMA = new EntitySchema<>(StationRef::id,
+            Map.of("icaoCode", StationRef::icaoCode, "iataCode", StationRef::iataCode));
+    private static final EntitySchema<AircraftRef> AIRCRAFT_SCHEMA =
+            new EntitySchema<>(AircraftRef::id, Map.of("type", AircraftRef::type));
+
+    private final RestTemplate restTemplate;
+    private final FlightServiceProperties properties;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final List<Map<String, Object>> pendingChanges = new ArrayList<>();
+
+    private volatile Indexes indexes;
+    private boolean loading;
+    // When the oldest missing version was first noticed, 0 while there is no gap; guarded by this
+    private long gapOpenedAt;
+
+    public boolean isLoaded() {
+        return indexes != null;
+    }
+
+    /**
+     * Highest version up to which every change has been applied, {@code -1} before the first snapshot.
+     */
+    public long getVersion() {
+        Indexes current = indexes;
+        return current != null ? current.version() : -1;
+    }
+
+    public Optional<AirlineRef> findAirline(Long id) {
+        return find(current -> current.airlines().byId(id));
+    }
+
+    public Optional<AirlineRef> findAirlineByCode(String code) {
+        return find(current -> current.airlines().byKey("code", code));
+    }
+
+    public Optional<StationRef> findStation(Long id) {
+        return find(current -> current.stations().byId(id));
+    }
+
+    public Optional<StationRef> findStationByIcao(String icaoCode) {
+        return find(current -> current.stations().byKey("icaoCode", icaoCode));
+    }
+
+    public Optional<StationRef> findStationByIata(String iataCode) {
+        return find(current -> current.stations().byKey("iataCode", iataCode));
+    }
+
+    public Optional<AircraftRef> findAircraft(Long id) {
+        return find(current -> current.aircraft().byId(id));
+    }
+
+    public Optional<AircraftRef> findAircraftByType(String type) {
+        return find(current -> current.aircraft().byKey("type", type));
+    }
+
+    public void loadSnapshot() {
+        if (!reloadLock.tryLock()) {
+            log.debug("Reference snapshot load already in progress");
+            return;
+        }
+
+        try {
+            synchronized (this) {
+                loading = true;
+                pendingChanges.clear();
+            }
+
+            String url = properties.getReferenceManager().getBaseUrl() + "/api/v1/references/snapshot";
+            ReferenceSnapshot snapshot = restTemplate.getForObject(url, ReferenceSnapshot.class);
+            if (snapshot == null) {
+                throw new IllegalStateException("Empty reference snapshot response");
+            }
+
+            synchronized (this) {
+                Indexes loaded = Indexes.of(snapshot);
+                // Deltas that arrived while the snapshot was in flight may be newer than it
+                for (Map<String, Object> change : pendingChanges) {
+                    loaded = loaded.apply(change);
+                }
+                indexes = loaded;
+                gapOpenedAt = 0;
+                trackGap();
+            }
+
+            log.info("Loaded reference snapshot version {}: {} airlines, {} stations, {} aircraft",
+                    snapshot.getVersion(), snapshot.getAirlines().size(), snapshot.getStations().size(),
+                    snapshot.getAircraft().size());
+        } finally {
+            synchronized (this) {
+                loading = false;
+                pendingChanges.clear();
+            }
+            reloadLock.unlock();
+        }
+    }
+
+    public synchronized void applyChange(Map<String, Object> event) {
+        if (loading) {
+            pendingChanges.add(event);
+        }
+        // Before the first snapshot there is nothing to patch; the snapshot will already contain the change
+        if (indexes != null) {
+            indexes = indexes.apply(event);
+            trackGap();
+        }
+    }
+
+    /**
+     * Reloads the snapshot when a version has been missing for longer than the gap timeout,
+     * which means its event was lost rather than delivered out of order.
+     */
+    public void reloadIfGapExpired() {
+        long openedAt;
+        long version;
+        synchronized (this) {
+            openedAt = gapOpenedAt;
+            version = getVersion();
+        }
+        Duration gapTimeout = properties.getReferenceSync().getGapTimeout();
+        if (openedAt != 0 && System.currentTimeMillis() - openedAt >= gapTimeout.toMillis()) {
+            log.info("Reference change version {} not received within {}, reloading snapshot", version + 1, gapTimeout);
+            loadSnapshot();
+        }
+    }
+
+    public void synchronize() {
+        if (!isLoaded()) {
+            loadSnapshot();
+            return;
+        }
+
+        String url = properties.getReferenceManager().getBaseUrl() + "/api/v1/references/version";
+        Map<?, ?> response = restTemplate.getForObject(url, Map.class);
+        if (response == null || !(response.get("version") instanceof Number remoteVersion)) {
+            return;
+        }
+
+        long localVersion = getVersion();
+        if (remoteVersion.longValue() != localVersion) {
+            log.info("Reference data complete up to version {} but reference-manager is at {}, reloading snapshot",
+                    localVersion, remoteVersion.longValue());
+            loadSnapshot();
+        }
+    }
+
+    // Called under the lock after every change to the indexes
+    private void trackGap() {
+        if (indexes.ahead().isEmpty()) {
+            gapOpenedAt = 0;
+        } else if (gapOpenedAt == 0) {
+            gapOpenedAt = System.currentTimeMillis();
+        }
+    }
+
+    private <T> Optional<T> find(Function<Indexes, T> lookup) {
+        Indexes current = indexes;
+        return current != null ? Optional.ofNullable(lookup.apply(current)) : Optional.empty();
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.trim();
+        return text.isEmpty() ? null : text.toUpperCase();
+    }
+
+    private record EntitySchema<T>(Function<T, Long> id, Map<String, Function<T, String>> keys) {
+    }
+
+    /**
+     * One entity type indexed by id and by each natural key. When a key is shared,
+     * the lowest id wins, matching how reference-manager resolves it.
+     */
+    private record EntityIndex<T>(EntitySchema<T> schema, Map<Long, T> byIdMap, Map<String, Map<String, T>> byKeyMap) {
+
+        static <T> EntityIndex<T> of(Collection<T> entities, EntitySchema<T> schema) {
+            Map<Long, T> byId = new HashMap<>();
+            for (T entity : entities) {
+                Long id = schema.id().apply(entity);
+                if (id != null) {
+                    byId.put(id, entity);
+                }
+            }
+
+            List<T> ordered = new ArrayList<>(byId.values());
+            ordered.sort(Comparator.comparing(schema.id()));
+
+            Map<String, Map<String, T>> byKey = new HashMap<>();
+            schema.keys().forEach((key, extractor) -> {
+                Map<String, T> index = new HashMap<>();
+                for (T entity : ordered) {
+                    String value = normalize(extractor.apply(entity));
+                    if (value != null) {
+                        index.putIfAbsent(value, entity);
+                    }
+                }
+                byKey.put(key, Map.copyOf(index));
+            });
+
+            return new EntityIndex<>(schema, Map.copyOf(byId), Map.copyOf(byKey));
+        }
+
+        T byId(Long id) {
+            return id != null ? byIdMap.get(id) : null;
+        }
+
+        T byKey(String key, String value) {
+            String normalized = normalize(value);
+            return normalized != null ? byKeyMap.get(key).get(normalized) : null;
+        }
+
+        EntityIndex<T> upsert(Long id, T entity) {
+            // A few thousand rows: rebuilding the indexes keeps renamed codes consistent
+            Map<Long, T> updated = new HashMap<>(byIdMap);
+            updated.put(id, entity);
+            return of(updated.values(), schema);
+        }
+    }
+
+    /**
+     * {@code version} is the highest version up to which every change is applied; {@code ahead} holds
+     * the versions applied beyond the first missing one.
+     */
+    private record Indexes(long snapshotVersion, long version, SortedSet<Long> ahead, Map<String, Long> entityVersions,
+                           EntityIndex<AirlineRef> airlines, EntityIndex<StationRef> stations,
+                           EntityIndex<AircraftRef> aircraft) {
+
+        static Indexes of(ReferenceSnapshot snapshot) {
+            return new Indexes(snapshot.getVersion(), snapshot.getVersion(), new TreeSet<>(), Map.of(),
+                    EntityIndex.of(snapshot.getAirlines(), AIRLINE_SCHEMA),
+                    EntityIndex.of(snapshot.getStations(), STATION_SCHEMA),
+                    EntityIndex.of(snapshot.getAircraft(), AIRCRAFT_SCHEMA));
+        }
+
+        Indexes apply(Map<String, Object> event) {
+            String entityType = (String) event.get("entityType");
+            if (!(event.get("entityId") instanceof Number entityId)
+                    || !(event.get("version") instanceof Number eventVersion)
+                    || !(event.get("data") instanceof Map<?, ?> data)) {
+                return this;
+            }
+
+            long changeVersion = eventVersion.longValue();
+            if (changeVersion <= version || ahead.contains(changeVersion)) {
+                return this;
+            }
+
+            TreeSet<Long> applied = new TreeSet<>(ahead);
+            applied.add(changeVersion);
+            long contiguous = version;
+            while (!applied.isEmpty() && applied.first() == contiguous + 1) {
+                contiguous = applied.pollFirst();
+            }
+
+            // Events are keyed by entity, so only per-entity order is guaranteed. Each event carries the whole
+            // entity, so a newer one also covers a lost older one; anything older is already applied.
+            String versionKey = entityType + ":" + entityId.longValue();
+            if (changeVersion <= entityVersions.getOrDefault(versionKey, snapshotVersion)) {
+                return new Indexes(snapshotVersion, contiguous, applied, entityVersions, airlines, stations, aircraft);
+            }
+
+            Map<String, Long> versions = new HashMap<>(entityVersions);
+            versions.put(versionKey, changeVersion);
+            Long id = entityId.longValue();
+
+            return switch (entityType) {
+                case "AIRLINE" -> new Indexes(snapshotVersion, contiguous, applied, Map.copyOf(versions),
+                        airlines.upsert(id, AirlineRef.from(data)), stations, aircraft);
+                case "STATION" -> new Indexes(snapshotVersion, contiguous, applied, Map.copyOf(versions),
+                        airlines, stations.upsert(id, StationRef.from(data)), aircraft);
+                case "AIRCRAFT" -> new Indexes(snapshotVersion, contiguous, applied, Map.copyOf(versions),
+                        airlines, stations, aircraft.upsert(id, AircraftRef.from(data)));
+                default -> new Indexes(snapshotVersion, contiguous, applied, entityVersions, airlines, stations,
+                        aircraft);
+            };
+        }
+    }
+}
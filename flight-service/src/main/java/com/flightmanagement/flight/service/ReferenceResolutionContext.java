@@ -0,0 +1,61 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.dto.reference.AircraftRef;
+import com.flightmanagement.flight.dto.reference.AirlineRef;
+import com.flightmanagement.flight.dto.reference.FlightReferences;
+import com.flightmanagement.flight.dto.reference.StationRef;
+import com.flightmanagement.flight.dto.request.OperationalFlightCreateRequestDto;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * References resolved for one request or batch. Every id is looked up at most once, the ids still
+ * missing for a flight are fetched together, and "not found" is remembered as well as hits.
+ * Not thread-safe: create one per request with {@link FlightEnrichmentService#newResolutionContext()}.
+ */
+public class ReferenceResolutionContext {
+
+    private final FlightEnrichmentService enrichmentService;
+
+    private final Map<Long, AirlineRef> airlines = new HashMap<>();
+    private final Map<Long, AircraftRef> aircraft = new HashMap<>();
+    private final Map<Long, StationRef> stations = new HashMap<>();
+
+    ReferenceResolutionContext(FlightEnrichmentService enrichmentService) {
+        this.enrichmentService = enrichmentService;
+    }
+
+    public FlightReferences resolve(OperationalFlightCreateRequestDto request) {
+        return resolve(request.getAirlineId(), request.getAircraftId(), request.getOriginStationId(),
+                request.getDestinationStationId());
+    }
+
+    public FlightReferences resolve(Long airlineId, Long aircraftId, Long originStationId, Long destinationStationId) {
+        Long destinationToFetch = missing(stations, destinationStationId);
+        if (destinationToFetch != null && destinationToFetch.equals(originStationId)) {
+            destinationToFetch = null;
+        }
+
+        FlightReferences fetched = enrichmentService.lookupReferences(missing(airlines, airlineId),
+                missing(aircraft, aircraftId), missing(stations, originStationId), destinationToFetch);
+
+        remember(airlines, airlineId, fetched.airline());
+        remember(aircraft, aircraftId, fetched.aircraft());
+        remember(stations, originStationId, fetched.origin());
+        remember(stations, destinationToFetch, fetched.destination());
+
+        return new FlightReferences(airlines.get(airlineId), aircraft.get(aircraftId), stations.get(originStationId),
+                stations.get(destinationStationId));
+    }
+
+    private static Long missing(Map<Long, ?> resolved, Long id) {
+        return id != null && !resolved.containsKey(id) ? id : null;
+    }
+
+    private static <T> void remember(Map<Long, T> resolved, Long id, T value) {
+        if (id != null) {
+            resolved.putIfAbsent(id, value);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.projection.FlightScheduleSlot;
+import com.flightmanagement.flight.dto.response.RevalidationResultDto;
+import com.flightmanagement.flight.entity.FlightConflict;
+import com.flightmanagement.flight.enums.ConflictSource;
+import com.flightmanagement.flight.enums.ConflictType;
+import com.flightmanagement.flight.enums.FlightStatus;
+import com.flightmanagement.flight.exception.RevalidationInProgressException;
+import com.flightmanagement.flight.repository.FlightConflictRepository;
+import com.flightmanagement.flight.repository.OperationalFlightRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleRevalidationService {
+
+    private static final String REVALIDATION_USER = "system-revalidation";
+    private static final String CLEARED_RESOLUTION = "CLEARED";
+    private static final String LEASE_KEY = "lease:schedule-revalidation";
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final OperationalFlightRepository flightRepository;
+    private final FlightConflictRepository conflictRepository;
+    private final EventPublishService eventPublishService;
+    private final ForkJoinPool revalidationPool;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FlightServiceProperties properties;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * Runs one revalidation across all instances. The lock and the Redis lease are held around the
+     * transaction, so the next run only starts once this one's conflicts are committed.
+     */
+    public RevalidationResultDto revalidate(LocalDate startDate, LocalDate endDate) {
+        if (!runLock.tryLock()) {
+            throw new RevalidationInProgressException("Schedule revalidation is already running");
+        }
+
+        try {
+            acquireLease();
+            try {
+                return transactionTemplate.execute(status -> revalidateInTransaction(startDate, endDate));
+            } finally {
+                releaseLease();
+            }
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private void acquireLease() {
+        Boolean acquired;
+        try {
+            acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_KEY, nodeId, properties.getRevalidation().getLeaseTtl());
+        } catch (Exception e) {
+            // Running without the lease could race another instance into duplicate conflicts
+            throw new IllegalStateException("Schedule revalidation lease unavailable: " + e.getMessage(), e);
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            throw new RevalidationInProgressException("Schedule revalidation is already running on another instance");
+        }
+    }
+
+    private void releaseLease() {
+        try {
+            stringRedisTemplate.execute(RELEASE_LEASE, List.of(LEASE_KEY), nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to release schedule revalidation lease, it will expire: {}", e.getMessage());
+        }
+    }
+
+    private RevalidationResultDto revalidateInTransaction(LocalDate startDate, LocalDate endDate) {
+        long started = System.nanoTime();
+
+        List<FlightScheduleSlot> slots = loadScheduleSlots(startDate, endDate);
+        Map<String, ConflictFinding> findings = detectConflicts(slots);
+
+        // Diff against the open findings of the previous run
+        Map<String, FlightConflict> previous = new HashMap<>();
+        List<FlightConflict> cleared = new ArrayList<>();
+        for (FlightConflict conflict : conflictRepository.findBySourceAndResolutionIsNullAndFlightDateBetween(
+                ConflictSource.REVALIDATION, startDate, endDate)) {
+            String key = conflictKey(conflict.getConflictType(), conflict.getOperationalFlightId(),
+                    conflict.getExistingFlightId());
+            if (!findings.containsKey(key) || previous.putIfAbsent(key, conflict) != null) {
+                cleared.add(conflict);
+            }
+        }
+
+        List<FlightConflict> created = findings.entrySet().stream()
+                .filter(entry -> !previous.containsKey(entry.getKey()))
+                .map(entry -> toFlightConflict(entry.getValue()))
+                .toList();
+
+        LocalDateTime now = LocalDateTime.now();
+        cleared.forEach(conflict -> {
+            conflict.setResolution(CLEARED_RESOLUTION);
+            conflict.setResolvedAt(now);
+            conflict.setResolvedBy(REVALIDATION_USER);
+        });
+
+        conflictRepository.saveAll(created);
+        conflictRepository.saveAll(cleared);
+
+        // Consumers must never hear of conflicts that a rollback took back
+        afterCommit(() -> {
+            created.forEach(conflict -> eventPublishService.publishConflictEvent("CONFLICT_DETECTED", conflict));
+            cleared.forEach(conflict -> eventPublishService.publishConflictEvent("CONFLICT_CLEARED", conflict));
+        });
+
+        long durationMs = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        log.info("Revalidated {} flights between {} and {} in {} ms: {} open, {} new, {} cleared",
+                slots.size(), startDate, endDate, durationMs, findings.size(), created.size(), cleared.size());
+
+        return RevalidationResultDto.builder()
+                .startDate(startDate)
+                .endDate(endDate)
+                .flightsChecked(slots.size())
+                .openConflicts(findings.size())
+                .newConflicts(created.size())
+                .clearedConflicts(cleared.size())
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private List<FlightScheduleSlot> loadScheduleSlots(LocalDate startDate, LocalDate endDate) {
+        List<FlightScheduleSlot> slots = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            slots.addAll(flightRepository.findScheduleSlotsByFlightDate(date, FlightStatus.CANCELLED));
+        }
+        return slots;
+    }
+
+    private Map<String, ConflictFinding> detectConflicts(List<FlightScheduleSlot> slots) {
+        try {
+            // Partitions are independent, so aircraft and station sweeps run side by side on the pool
+            return revalidationPool.submit(() -> {
+                Collection<List<FlightScheduleSlot>> aircraftPartitions = slots.parallelStream()
+                        .filter(slot -> slot.aircraftId() != null)
+                        .collect(Collectors.groupingByConcurrent(
+                                slot -> new PartitionKey(slot.aircraftId(), slot.flightDate())))
+                        .values();
+                Collection<List<FlightScheduleSlot>> stationPartitions = slots.parallelStream()
+                        .filter(slot -> slot.originStationId() != null)
+                        .collect(Collectors.groupingByConcurrent(
+                                slot -> new PartitionKey(slot.originStationId(), slot.flightDate())))
+                        .values();
+
+                return Stream.concat(
+                                aircraftPartitions.parallelStream().flatMap(p -> checkAircraftPartition(p).stream()),
+                                stationPartitions.parallelStream().flatMap(p -> checkStationPartition(p).stream()))
+                        .collect(Collectors.toMap(ConflictFinding::key, Function.identity(), (a, b) -> a));
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Schedule revalidation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Schedule revalidation failed", e.getCause());
+        }
+    }
+
+    private List<ConflictFinding> checkAircraftPartition(List<FlightScheduleSlot> partition) {
+        if (partition.size() < 2) {
+            return List.of();
+        }
+
+        List<FlightScheduleSlot> sorted = sortByDeparture(partition);
+        List<ConflictFinding> findings = new ArrayList<>();
+
+        for (int i = 0; i < sorted.size(); i++) {
+            FlightScheduleSlot first = sorted.get(i);
+            LocalTime horizon = first.scheduledArrivalTime().plusMinutes(ConflictDetectionService.TURNAROUND_BUFFER_MINUTES);
+
+            for (int j = i + 1; j < sorted.size(); j++) {
+                FlightScheduleSlot second = sorted.get(j);
+                // Later departures can only start further past the turnaround horizon
+                if (second.scheduledDepartureTime().isAfter(horizon)) {
+                    break;
+                }
+                if (ConflictDetectionService.isAircraftOverlap(
+                        first.scheduledDepartureTime(), first.scheduledArrivalTime(),
+                        second.scheduledDepartureTime(), second.scheduledArrivalTime())) {
+                    findings.add(ConflictFinding.of(ConflictType.AIRCRAFT_DOUBLE_BOOKING, first, second));
+                }
+            }
+        }
+
+        return findings;
+    }
+
+    private List<ConflictFinding> checkStationPartition(List<FlightScheduleSlot> partition) {
+        if (partition.size() < 2) {
+            return List.of();
+        }
+
+        List<FlightScheduleSlot> sorted = sortByDeparture(partition);
+        List<ConflictFinding> findings = new ArrayList<>();
+
+        for (int i = 0; i < sorted.size(); i++) {
+            FlightScheduleSlot first = sorted.get(i);
+
+            for (int j = i + 1; j < sorted.size(); j++) {
+                FlightScheduleSlot second = sorted.get(j);
+                if (!ConflictDetectionService.isSlotConflict(first.scheduledDepartureTime(), second.scheduledDepartureTime())) {
+                    break;
+                }
+                findings.add(ConflictFinding.of(ConflictType.SLOT_CONFLICT, first, second));
+            }
+        }
+
+        return findings;
+    }
+
+    private List<FlightScheduleSlot> sortByDeparture(List<FlightScheduleSlot> partition) {
+        List<FlightScheduleSlot> sorted = new ArrayList<>(partition);
+        sorted.sort(Comparator.comparing(FlightScheduleSlot::scheduledDepartureTime)
+                .thenComparing(FlightScheduleSlot::id));
+        return sorted;
+    }
+
+    private FlightConflict toFlightConflict(ConflictFinding finding) {
+        return FlightConflict.builder()
+                .source(ConflictSource.REVALIDATION)
+                .operationalFlightId(finding.flight().id())
+                .existingFlightId(finding.other().id())
+                .flightDate(finding.flight().flightDate())
+                .conflictType(finding.type())
+                .conflictDescription(finding.description())
+                .newFlightData(formatFindingAsJson(finding))
+                .build();
+    }
+
+    private String formatFindingAsJson(ConflictFinding finding) {
+        return String.format("""
+            {
+                "flightId": %d,
+                "flightNumber": "%s",
+                "conflictingFlightId": %d,
+                "conflictingFlightNumber": "%s",
+                "flightDate": "%s"
+            }
+            """,
+                finding.flight().id(), finding.flight().flightNumber(),
+                finding.other().id(), finding.other().flightNumber(),
+                finding.flight().flightDate());
+    }
+
+    private static String conflictKey(ConflictType type, Long flightId, Long otherFlightId) {
+        return type + ":" + flightId + ":" + otherFlightId;
+    }
+
+    private record PartitionKey(Long resourceId, LocalDate flightDate) {
+    }
+
+    private record ConflictFinding(ConflictType type, FlightScheduleSlot flight, FlightScheduleSlot other) {
+
+        // Order the pair by id so the same clash always produces the same key
+        static ConflictFinding of(ConflictType type, FlightScheduleSlot a, FlightScheduleSlot b) {
+            return a.id() <= b.id() ? new ConflictFinding(type, a, b) : new ConflictFinding(type, b, a);
+        }
+
+        String key() {
+            return conflictKey(type, flight.id(), other.id());
+        }
+
+        String description() {
+            return switch (type) {
+                case AIRCRAFT_DOUBLE_BOOKING -> String.format("Aircraft double booked on flights %s and %s",
+                        flight.flightNumber(), other.flightNumber());
+                case SLOT_CONFLICT -> String.format("Departure slot conflict between flights %s and %s",
+                        flight.flightNumber(), other.flightNumber());
+                default -> String.format("%s between flights %s and %s",
+                        type, flight.flightNumber(), other.flightNumber());
+            };
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.dto.response.RankedCountDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving heavy-hitter summary over a fixed number of counters. Counts are exact until more distinct
+ * items than counters have been seen; after that a count may overestimate by what it inherited on takeover.
+ * Removals are applied to tracked items only, which is enough for flights that change route or reason.
+ */
+final class SpaceSavingSketch {
+
+    private static final Comparator<Counter> BY_COUNT = Comparator.<Counter>comparingLong(counter -> counter.count)
+            .thenComparingLong(counter -> counter.sequence);
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final NavigableSet<Counter> ordered = new TreeSet<>(BY_COUNT);
+    private long nextSequence;
+
+    SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Puts an exact count in without taking over another counter; ignored once all counters are in use.
+     * Seeding the largest counts first keeps the seeded sketch exact for everything it tracks.
+     */
+    synchronized void seed(String item, long count) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            ordered.remove(counter);
+            counter.count += count;
+            ordered.add(counter);
+        } else if (counters.size() < capacity) {
+            counter = new Counter(item, count, nextSequence++);
+            counters.put(item, counter);
+            ordered.add(counter);
+        }
+    }
+
+    synchronized void add(String item, long weight) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            ordered.remove(counter);
+            counter.count += weight;
+            ordered.add(counter);
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counter = new Counter(item, weight, nextSequence++);
+        } else {
+            // The newcomer takes over the smallest counter and inherits its count as possible overestimate
+            Counter smallest = ordered.pollFirst();
+            counters.remove(smallest.item);
+            counter = new Counter(item, smallest.count + weight, nextSequence++);
+        }
+        counters.put(item, counter);
+        ordered.add(counter);
+    }
+
+    synchronized void remove(String item, long weight) {
+        Counter counter = counters.get(item);
+        if (counter == null) {
+            return;
+        }
+        ordered.remove(counter);
+        counter.count -= weight;
+        if (counter.count > 0) {
+            ordered.add(counter);
+        } else {
+            counters.remove(item);
+        }
+    }
+
+    synchronized List<RankedCountDto> top(int n) {
+        List<RankedCountDto> top = new ArrayList<>(Math.min(n, ordered.size()));
+        Iterator<Counter> descending = ordered.descendingIterator();
+        while (descending.hasNext() && top.size() < n) {
+            Counter counter = descending.next();
+            top.add(new RankedCountDto(counter.item, counter.count));
+        }
+        return top;
+    }
+
+    private static final class Counter {
+
+        private final String item;
+        private final long sequence;
+        private long count;
+
+        Counter(String item, long count, long sequence) {
+            this.item = item;
+            this.count = count;
+            this.sequence = sequence;
+        }
+    }
+}
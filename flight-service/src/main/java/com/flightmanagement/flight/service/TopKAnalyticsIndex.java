@@ -0,0 +1,263 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.projection.DelayReasonCount;
+import com.flightmanagement.flight.dto.projection.RouteCount;
+import com.flightmanagement.flight.dto.response.RankedCountDto;
+import com.flightmanagement.flight.repository.OperationalFlightRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Busiest routes and most frequent delay reasons per (day, airline), kept in Space-Saving sketches that
+ * the write paths update after commit. A day is seeded from one grouped query on first use and re-seeded
+ * every {@code app.analytics.reseed-interval}, which also folds in writes made on other instances.
+ */
+@Component
+@Slf4j
+public class TopKAnalyticsIndex {
+
+    // Sketch key for the totals across all airlines
+    private static final Long ALL_AIRLINES = 0L;
+
+    private final OperationalFlightRepository flightRepository;
+    private final FlightServiceProperties.Analytics properties;
+    private final Cache<LocalDate, DayAnalytics> days = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofHours(6))
+            .build();
+
+    public TopKAnalyticsIndex(OperationalFlightRepository flightRepository, FlightServiceProperties properties) {
+        this.flightRepository = flightRepository;
+        this.properties = properties.getAnalytics();
+    }
+
+    public List<RankedCountDto> topRoutes(LocalDate date, Long airlineId, int n) {
+        return day(date).current().routes(airlineId).top(n);
+    }
+
+    public List<RankedCountDto> topDelayReasons(LocalDate date, Long airlineId, int n) {
+        return day(date).current().delayReasons(airlineId).top(n);
+    }
+
+    public void recordChange(DailySummaryService.FlightTally before, DailySummaryService.FlightTally after) {
+        if (sameDimensions(before, after)) {
+            return;
+        }
+        afterCommit(() -> {
+            if (before != null) {
+                update(before, -1);
+            }
+            if (after != null) {
+                update(after, 1);
+            }
+        });
+    }
+
+    private void update(DailySummaryService.FlightTally tally, int sign) {
+        // Days nobody has looked at yet are seeded from the committed rows on first read
+        DayAnalytics day = days.getIfPresent(tally.flightDate());
+        Sketches sketches = day != null ? day.current() : null;
+        if (sketches != null) {
+            sketches.apply(tally.airlineId(), tally.route(), tally.delayReason(), sign);
+        }
+    }
+
+    private DayAnalytics day(LocalDate date) {
+        DayAnalytics day = days.get(date, DayAnalytics::new);
+        day.refreshIfStale();
+        return day;
+    }
+
+    private static boolean sameDimensions(DailySummaryService.FlightTally a, DailySummaryService.FlightTally b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.flightDate().equals(b.flightDate()) && a.airlineId().equals(b.airlineId())
+                && Objects.equals(a.route(), b.route()) && Objects.equals(a.delayReason(), b.delayReason());
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private class DayAnalytics {
+
+        private final LocalDate date;
+        private final ReentrantLock seedLock = new ReentrantLock();
+        private volatile Sketches sketches;
+        private volatile long seededAt;
+
+        DayAnalytics(LocalDate date) {
+            this.date = date;
+        }
+
+        Sketches current() {
+            return sketches;
+        }
+
+        void refreshIfStale() {
+            if (sketches == null) {
+                seedLock.lock();
+                try {
+                    if (sketches == null) {
+                        seed();
+                    }
+                } finally {
+                    seedLock.unlock();
+                }
+                return;
+            }
+
+            // Readers keep serving the previous sketches while one of them re-seeds
+            if (isStale() && seedLock.tryLock()) {
+                try {
+                    if (isStale()) {
+                        seed();
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Re-seeding top-k analytics for {} failed: {}", date, e.getMessage());
+                } finally {
+                    seedLock.unlock();
+                }
+            }
+        }
+
+        private boolean isStale() {
+            return System.currentTimeMillis() - seededAt >= properties.getReseedInterval().toMillis();
+        }
+
+        private void seed() {
+            Sketches seeded = new Sketches(properties.getSketchCapacity());
+            ExactCounts routeCounts = new ExactCounts();
+            List<RouteCount> routes = flightRepository.countRoutesByFlightDate(date);
+            for (RouteCount route : routes) {
+                routeCounts.add(route.airlineId(), routeKey(route.originIcaoCode(), route.destinationIcaoCode()),
+                        route.count());
+            }
+            ExactCounts reasonCounts = new ExactCounts();
+            List<DelayReasonCount> reasons = flightRepository.countDelayReasonsByFlightDate(date);
+            for (DelayReasonCount reason : reasons) {
+                reasonCounts.add(reason.airlineId(), normalizeReason(reason.delayReason()), reason.count());
+            }
+            routeCounts.seedInto(seeded::routes);
+            reasonCounts.seedInto(seeded::delayReasons);
+            // Writes committed while the queries ran may be missing until the next re-seed
+            sketches = seeded;
+            seededAt = System.currentTimeMillis();
+            log.debug("Seeded top-k analytics for {}: {} route groups, {} delay reason groups",
+                    date, routes.size(), reasons.size());
+        }
+    }
+
+    private static final class Sketches {
+
+        private final int capacity;
+        private final Map<Long, SpaceSavingSketch> routes = new ConcurrentHashMap<>();
+        private final Map<Long, SpaceSavingSketch> delayReasons = new ConcurrentHashMap<>();
+
+        Sketches(int capacity) {
+            this.capacity = capacity;
+        }
+
+        SpaceSavingSketch routes(Long airlineId) {
+            return sketch(routes, airlineId);
+        }
+
+        SpaceSavingSketch delayReasons(Long airlineId) {
+            return sketch(delayReasons, airlineId);
+        }
+
+        void apply(Long airlineId, String route, String delayReason, int sign) {
+            if (route != null) {
+                change(routes, airlineId, route, sign);
+            }
+            if (delayReason != null) {
+                change(delayReasons, airlineId, delayReason, sign);
+            }
+        }
+
+        // Every change lands in the airline's sketch and in the all-airlines sketch
+        private void change(Map<Long, SpaceSavingSketch> sketches, Long airlineId, String item, long delta) {
+            for (Long key : List.of(airlineId, ALL_AIRLINES)) {
+                SpaceSavingSketch sketch = sketch(sketches, key);
+                if (delta > 0) {
+                    sketch.add(item, delta);
+                } else {
+                    sketch.remove(item, -delta);
+                }
+            }
+        }
+
+        private SpaceSavingSketch sketch(Map<Long, SpaceSavingSketch> sketches, Long airlineId) {
+            return sketches.computeIfAbsent(airlineId != null ? airlineId : ALL_AIRLINES,
+                    ignored -> new SpaceSavingSketch(capacity));
+        }
+    }
+
+    /**
+     * Exact per-airline and all-airline totals from the grouped queries. Only the largest {@code capacity}
+     * of each are seeded, so no seeded item inherits another item's count; later items go through takeover.
+     */
+    private static final class ExactCounts {
+
+        private final Map<Long, Map<String, Long>> countsByAirline = new HashMap<>();
+
+        void add(Long airlineId, String item, long count) {
+            if (item == null) {
+                return;
+            }
+            Long key = airlineId != null ? airlineId : ALL_AIRLINES;
+            countsByAirline.computeIfAbsent(key, ignored -> new HashMap<>()).merge(item, count, Long::sum);
+            if (!ALL_AIRLINES.equals(key)) {
+                countsByAirline.computeIfAbsent(ALL_AIRLINES, ignored -> new HashMap<>())
+                        .merge(item, count, Long::sum);
+            }
+        }
+
+        void seedInto(Function<Long, SpaceSavingSketch> sketchOf) {
+            countsByAirline.forEach((airlineId, counts) -> {
+                SpaceSavingSketch sketch = sketchOf.apply(airlineId);
+                counts.entrySet().stream()
+                        .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                        .forEachOrdered(entry -> sketch.seed(entry.getKey(), entry.getValue()));
+            });
+        }
+    }
+
+    static String routeKey(String originIcaoCode, String destinationIcaoCode) {
+        if (originIcaoCode == null || destinationIcaoCode == null) {
+            return null;
+        }
+        return originIcaoCode + "-" + destinationIcaoCode;
+    }
+
+    static String normalizeReason(String delayReason) {
+        if (delayReason == null || delayReason.isBlank()) {
+            return null;
+        }
+        return delayReason.trim();
+    }
+}
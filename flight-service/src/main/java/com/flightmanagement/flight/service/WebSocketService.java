@@ -4,20 +4,29 @@ import com.flightmanagement.flight.dto.websocket.FlightStatusUpdateMessage;
 import com.flightmanagement.flight.dto.websocket.UploadProgressMessage;
 import com.flightmanagement.flight.entity.FlightUploadBatch;
 import com.flightmanagement.flight.entity.OperationalFlight;
+import com.flightmanagement.flight.websocket.CoalescingMessagePublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final CoalescingMessagePublisher messagePublisher;
 
     public void notifyFlightCreated(OperationalFlight flight) {
         try {
+            List<String> destinations = subscribedFlightDestinations(flight);
+            if (destinations.isEmpty()) {
+                return;
+            }
+
             FlightStatusUpdateMessage message = FlightStatusUpdateMessage.builder()
                     .flightId(flight.getId())
                     .flightNumber(flight.getFlightNumber())
@@ -26,9 +35,7 @@ public class WebSocketService {
                     .timestamp(flight.getCreatedAt())
                     .build();
 
-            messagingTemplate.convertAndSend("/topic/flights/" + flight.getId(), message);
-            messagingTemplate.convertAndSend("/topic/airlines/" + flight.getAirlineId() + "/flights", message);
-            messagingTemplate.convertAndSend("/topic/dashboard", message);
+            publishFlightMessage(flight, destinations, message);
 
             log.debug("Sent flight created notification for: {}", flight.getFlightNumber());
         } catch (Exception e) {
@@ -38,6 +45,11 @@ public class WebSocketService {
 
     public void notifyFlightUpdated(OperationalFlight flight, OperationalFlight previousState) {
         try {
+            List<String> destinations = subscribedFlightDestinations(flight);
+            if (destinations.isEmpty()) {
+                return;
+            }
+
             FlightStatusUpdateMessage message = FlightStatusUpdateMessage.builder()
                     .flightId(flight.getId())
                     .flightNumber(flight.getFlightNumber())
@@ -46,9 +58,7 @@ public class WebSocketService {
                     .timestamp(flight.getUpdatedAt())
                     .build();
 
-            messagingTemplate.convertAndSend("/topic/flights/" + flight.getId(), message);
-            messagingTemplate.convertAndSend("/topic/airlines/" + flight.getAirlineId() + "/flights", message);
-            messagingTemplate.convertAndSend("/topic/dashboard", message);
+            publishFlightMessage(flight, destinations, message);
 
             log.debug("Sent flight updated notification for: {}", flight.getFlightNumber());
         } catch (Exception e) {
@@ -58,6 +68,11 @@ public class WebSocketService {
 
     public void notifyFlightStatusUpdate(OperationalFlight flight) {
         try {
+            List<String> destinations = subscribedFlightDestinations(flight);
+            if (destinations.isEmpty()) {
+                return;
+            }
+
             FlightStatusUpdateMessage message = FlightStatusUpdateMessage.builder()
                     .flightId(flight.getId())
                     .flightNumber(flight.getFlightNumber())
@@ -69,9 +84,7 @@ public class WebSocketService {
                     .timestamp(flight.getUpdatedAt())
                     .build();
 
-            messagingTemplate.convertAndSend("/topic/flights/" + flight.getId(), message);
-            messagingTemplate.convertAndSend("/topic/airlines/" + flight.getAirlineId() + "/flights", message);
-            messagingTemplate.convertAndSend("/topic/dashboard", message);
+            publishFlightMessage(flight, destinations, message);
 
             log.debug("Sent flight status update notification for: {}", flight.getFlightNumber());
         } catch (Exception e) {
@@ -123,6 +136,20 @@ public class WebSocketService {
         }
     }
 
+    // Most single-flight topics have no subscribers, so the message is only built for destinations that do
+    private List<String> subscribedFlightDestinations(OperationalFlight flight) {
+        return messagePublisher.subscribed(
+                "/topic/flights/" + flight.getId(),
+                "/topic/airlines/" + flight.getAirlineId() + "/flights",
+                "/topic/dashboard");
+    }
+
+    private void publishFlightMessage(OperationalFlight flight, List<String> destinations,
+                                      FlightStatusUpdateMessage message) {
+        byte[] payload = messagePublisher.encode(message);
+        destinations.forEach(destination -> messagePublisher.publish(destination, flight.getId(), payload));
+    }
+
     private double calculateProgress(FlightUploadBatch batch) {
         if (batch.getTotalRows() == 0) {
             return 0.0;
@@ -0,0 +1,185 @@
+package com.flightmanagement.flight.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buffers flight updates per destination and hands them to the {@link FrameRelay} as one
+ * batch per batch window. Messages are encoded once and shared by every destination they go to,
+ * and a newer update for a flight replaces the one still waiting in the buffer.
+ */
+@Component
+@Slf4j
+public class CoalescingMessagePublisher {
+
+    private final FrameRelay frameRelay;
+    private final FlightServiceProperties.WebSocket properties;
+    // The application mapper also backs the broker's JSON converter, so updates keep the shape of other messages
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, DestinationBuffer> buffers = new ConcurrentHashMap<>();
+
+    private final Counter messagesQueued;
+    private final Counter messagesCoalesced;
+    private final Counter framesSent;
+    private final Counter destinationsSkipped;
+
+    public CoalescingMessagePublisher(FrameRelay frameRelay, ObjectMapper objectMapper,
+                                      FlightServiceProperties properties, MeterRegistry meterRegistry) {
+        this.frameRelay = frameRelay;
+        this.objectMapper = objectMapper;
+        this.properties = properties.getWebSocket();
+        this.messagesQueued = Counter.builder("websocket.messages.queued")
+                .description("Flight updates handed to the batching publisher, per destination")
+                .register(meterRegistry);
+        this.messagesCoalesced = Counter.builder("websocket.messages.coalesced")
+                .description("Buffered flight updates replaced by a newer update before being sent")
+                .register(meterRegistry);
+        this.framesSent = Counter.builder("websocket.frames.sent")
+                .description("Frames sent by the batching publisher")
+                .register(meterRegistry);
+        this.destinationsSkipped = Counter.builder("websocket.publish.skipped")
+                .description("Flight updates not built or sent for a destination nobody subscribes to")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The given destinations that have subscribers somewhere; callers skip building the message when empty.
+     */
+    public List<String> subscribed(String... destinations) {
+        List<String> subscribed = new ArrayList<>(destinations.length);
+        for (String destination : destinations) {
+            if (frameRelay.hasSubscribers(destination)) {
+                subscribed.add(destination);
+            } else {
+                destinationsSkipped.increment();
+            }
+        }
+        return subscribed;
+    }
+
+    /**
+     * Encodes a message once for all of its destinations; {@code null} if it cannot be encoded.
+     */
+    public byte[] encode(Object message) {
+        try {
+            return objectMapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to encode WebSocket message {}", message, e);
+            return null;
+        }
+    }
+
+    /**
+     * Queues an update once the surrounding transaction commits, so no frame carries a change that a snapshot
+     * queried right after it could still miss.
+     */
+    public void publish(String destination, Long flightId, byte[] payload) {
+        if (payload == null) {
+            return;
+        }
+        afterCommit(() -> enqueue(destination, flightId, payload));
+    }
+
+    private void enqueue(String destination, Long flightId, byte[] payload) {
+        messagesQueued.increment();
+        if (!properties.isCoalesce()) {
+            frameRelay.relay(destination, toArray(List.of(payload)));
+            framesSent.increment();
+            return;
+        }
+
+        // A buffer taken by a concurrent flush is closed; the update goes into the next one
+        while (!buffers.computeIfAbsent(destination, key -> new DestinationBuffer()).offer(flightId, payload)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@flightServiceProperties.webSocket.batchWindow.toMillis()}")
+    public void flush() {
+        for (String destination : buffers.keySet()) {
+            DestinationBuffer buffer = buffers.remove(destination);
+            if (buffer == null) {
+                continue;
+            }
+            List<byte[]> pending = buffer.close();
+            if (!pending.isEmpty()) {
+                try {
+                    frameRelay.relay(destination, toArray(pending));
+                    framesSent.increment();
+                } catch (Exception e) {
+                    log.error("Failed to send {} buffered updates to {}", pending.size(), destination, e);
+                }
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static byte[] toArray(List<byte[]> payloads) {
+        int size = payloads.size() + 1;
+        for (byte[] payload : payloads) {
+            size += payload.length;
+        }
+
+        ByteArrayOutputStream array = new ByteArrayOutputStream(size);
+        array.write('[');
+        for (int i = 0; i < payloads.size(); i++) {
+            if (i > 0) {
+                array.write(',');
+            }
+            array.writeBytes(payloads.get(i));
+        }
+        array.write(']');
+        return array.toByteArray();
+    }
+
+    private class DestinationBuffer {
+
+        // Insertion order is kept so a batch lists flights in the order they last changed
+        private final Map<Long, byte[]> latestByFlight = new LinkedHashMap<>();
+        private boolean closed;
+
+        synchronized boolean offer(Long flightId, byte[] payload) {
+            if (closed) {
+                return false;
+            }
+            if (latestByFlight.remove(flightId) != null) {
+                messagesCoalesced.increment();
+            }
+            latestByFlight.put(flightId, payload);
+            return true;
+        }
+
+        synchronized List<byte[]> close() {
+            closed = true;
+            return new ArrayList<>(latestByFlight.values());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.flightmanagement.flight.websocket;
+
+/**
+ * Carries a batch of encoded updates to every instance whose clients may be subscribed to the destination.
+ */
+public interface FrameRelay {
+
+    void relay(String destination, byte[] updates);
+
+    /**
+     * Whether any instance may have clients for the destination; when not, the update need not be built at all.
+     */
+    boolean hasSubscribers(String destination);
+}
@@ -0,0 +1,27 @@
+package com.flightmanagement.flight.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-instance mode: batches go straight to this instance's subscribers.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.web-socket.relay", havingValue = "local", matchIfMissing = true)
+public class LocalFrameRelay implements FrameRelay {
+
+    private final TopicSequencer topicSequencer;
+    private final SubscriptionRegistry subscriptionRegistry;
+
+    @Override
+    public void relay(String destination, byte[] updates) {
+        topicSequencer.deliver(destination, updates);
+    }
+
+    @Override
+    public boolean hasSubscribers(String destination) {
+        return subscriptionRegistry.isWatched(destination);
+    }
+}
@@ -0,0 +1,229 @@
+package com.flightmanagement.flight.websocket;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Multi-instance mode: each batch is published once to a Redis channel and every instance, this one
+ * included, delivers it to its own subscribers. Sequencing happens on delivery, so a client's stream
+ * always belongs to the instance it is connected to.
+ * <p>
+ * Instances also share which destinations their clients subscribe to: a full list every
+ * {@code interest-refresh}, and a notice on the interest channel as soon as a destination gains
+ * its first local subscriber. Updates for destinations nobody watches are never built.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.web-socket.relay", havingValue = "redis")
+public class RedisFrameRelay implements FrameRelay, MessageListener {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TopicSequencer topicSequencer;
+    private final SubscriptionRegistry subscriptionRegistry;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final byte[] channel;
+    private final byte[] interestChannel;
+    private final String interestNodesKey;
+    private final String interestKeyPrefix;
+    private final Duration interestTtl;
+
+    // Destinations and patterns watched on other instances, with the time the interest lapses
+    private final Map<String, Long> remoteInterest = new ConcurrentHashMap<>();
+    private final Map<String, Long> remotePatternInterest = new ConcurrentHashMap<>();
+
+    private final Counter published;
+    private final Counter received;
+    private final Counter skipped;
+    private final Counter publishFailures;
+    private final Timer relayLag;
+
+    public RedisFrameRelay(StringRedisTemplate stringRedisTemplate, TopicSequencer topicSequencer,
+                           SubscriptionRegistry subscriptionRegistry, FlightServiceProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.topicSequencer = topicSequencer;
+        this.subscriptionRegistry = subscriptionRegistry;
+
+        String relayChannel = properties.getWebSocket().getRelayChannel();
+        this.channel = relayChannel.getBytes(StandardCharsets.UTF_8);
+        this.interestChannel = (relayChannel + ":interest").getBytes(StandardCharsets.UTF_8);
+        this.interestNodesKey = relayChannel + ":interest:nodes";
+        this.interestKeyPrefix = relayChannel + ":interest:";
+        // A few missed refreshes are tolerated before another instance's interest lapses
+        this.interestTtl = properties.getWebSocket().getInterestRefresh().multipliedBy(3);
+
+        this.published = Counter.builder("websocket.relay.published")
+                .description("Batches published to the relay channel")
+                .register(meterRegistry);
+        this.received = Counter.builder("websocket.relay.received")
+                .description("Batches received from the relay channel and delivered locally")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("websocket.relay.skipped")
+                .description("Relayed batches for destinations nobody on this instance subscribes to")
+                .register(meterRegistry);
+        this.publishFailures = Counter.builder("websocket.relay.publish.failures")
+                .description("Batches that could not be published and were delivered to local subscribers only")
+                .register(meterRegistry);
+        this.relayLag = Timer.builder("websocket.relay.lag")
+                .description("Time from publishing a batch to delivering it on this instance")
+                .register(meterRegistry);
+
+        subscriptionRegistry.onNewDestination(this::announceInterest);
+    }
+
+    public List<Topic> getTopics() {
+        return List.of(new ChannelTopic(new String(channel, StandardCharsets.UTF_8)),
+                new ChannelTopic(new String(interestChannel, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public void relay(String destination, byte[] updates) {
+        try {
+            byte[] body = encode(destination, updates);
+            stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+            published.increment();
+        } catch (Exception e) {
+            // Local clients still get the update; other instances miss it until their clients resume
+            publishFailures.increment();
+            log.warn("Failed to relay WebSocket batch for {}: {}", destination, e.getMessage());
+            topicSequencer.deliver(destination, updates);
+        }
+    }
+
+    @Override
+    public boolean hasSubscribers(String destination) {
+        if (subscriptionRegistry.isWatched(destination)) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        Long lapsesAt = remoteInterest.get(destination);
+        if (lapsesAt != null && lapsesAt > now) {
+            return true;
+        }
+        for (Map.Entry<String, Long> pattern : remotePatternInterest.entrySet()) {
+            if (pattern.getValue() > now && subscriptionRegistry.covers(pattern.getKey(), destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (Arrays.equals(message.getChannel(), interestChannel)) {
+            onInterest(new String(message.getBody(), StandardCharsets.UTF_8));
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(message.getBody()))) {
+            long publishedAt = in.readLong();
+            String destination = in.readUTF();
+            if (!subscriptionRegistry.isWatched(destination)) {
+                skipped.increment();
+                return;
+            }
+            byte[] updates = in.readAllBytes();
+
+            topicSequencer.deliver(destination, updates);
+            received.increment();
+            relayLag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - publishedAt)));
+        } catch (Exception e) {
+            log.error("Failed to deliver relayed WebSocket batch", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "#{@flightServiceProperties.webSocket.interestRefresh.toMillis()}")
+    public void refreshInterest() {
+        try {
+            stringRedisTemplate.opsForValue().set(interestKeyPrefix + nodeId,
+                    String.join("\n", subscriptionRegistry.watchedDestinations()), interestTtl);
+            stringRedisTemplate.opsForSet().add(interestNodesKey, nodeId);
+
+            Set<String> nodes = stringRedisTemplate.opsForSet().members(interestNodesKey);
+            List<String> otherNodes = nodes == null ? List.of()
+                    : nodes.stream().filter(node -> !node.equals(nodeId)).toList();
+            List<String> destinationLists = otherNodes.isEmpty() ? List.of() : stringRedisTemplate.opsForValue()
+                    .multiGet(otherNodes.stream().map(node -> interestKeyPrefix + node).toList());
+
+            long now = System.currentTimeMillis();
+            long lapsesAt = now + interestTtl.toMillis();
+            List<String> departed = new ArrayList<>();
+            for (int i = 0; i < otherNodes.size(); i++) {
+                String destinations = destinationLists != null ? destinationLists.get(i) : null;
+                if (destinations == null) {
+                    departed.add(otherNodes.get(i));
+                } else if (!destinations.isEmpty()) {
+                    for (String destination : destinations.split("\n")) {
+                        interestIn(destination).put(destination, lapsesAt);
+                    }
+                }
+            }
+            if (!departed.isEmpty()) {
+                stringRedisTemplate.opsForSet().remove(interestNodesKey, departed.toArray());
+            }
+            remoteInterest.values().removeIf(lapse -> lapse <= now);
+            remotePatternInterest.values().removeIf(lapse -> lapse <= now);
+        } catch (Exception e) {
+            // Known interest keeps applying until it lapses
+            log.warn("Failed to refresh WebSocket subscription interest: {}", e.getMessage());
+        }
+    }
+
+    private void announceInterest(String destination) {
+        try {
+            byte[] body = (nodeId + "\n" + destination).getBytes(StandardCharsets.UTF_8);
+            stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(interestChannel, body));
+        } catch (Exception e) {
+            log.debug("Failed to announce interest in {}: {}", destination, e.getMessage());
+        }
+    }
+
+    private void onInterest(String body) {
+        int separator = body.indexOf('\n');
+        if (separator > 0 && !body.substring(0, separator).equals(nodeId)) {
+            String destination = body.substring(separator + 1);
+            interestIn(destination).put(destination, System.currentTimeMillis() + interestTtl.toMillis());
+        }
+    }
+
+    private Map<String, Long> interestIn(String destination) {
+        return subscriptionRegistry.isPattern(destination) ? remotePatternInterest : remoteInterest;
+    }
+
+    private static byte[] encode(String destination, byte[] updates) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(updates.length + destination.length() + 16);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(System.currentTimeMillis());
+            out.writeUTF(destination);
+            out.write(updates);
+        }
+        return bytes.toByteArray();
+    }
+}
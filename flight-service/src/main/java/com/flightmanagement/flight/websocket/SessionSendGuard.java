@@ -0,0 +1,258 @@
+package com.flightmanagement.flight.websocket;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.config.FlightServiceProperties.WebSocket.Session.Policy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds what can pile up for one STOMP session. A message counts as pending from the moment the outbound
+ * channel accepts it until it has been written to the socket, which covers the executor queue and the
+ * per-session send buffer. Past {@code max-pending}, feed frames for the session are dropped
+ * ({@code drop}: the client sees the sequence gap and resumes) or replaced by an occasional resync marker
+ * ({@code snapshot}: the client reloads the board). Once the session has caught up, every destination that
+ * lost frames gets one resync marker, since a gap is only visible to the client when a later frame arrives.
+ * Sessions that stay behind for too long are closed.
+ */
+@Component
+@Slf4j
+public class SessionSendGuard implements ChannelInterceptor {
+
+    private final FlightServiceProperties.WebSocket.Session properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+
+    private final Counter framesDropped;
+    private final Counter slowDisconnects;
+
+    public SessionSendGuard(FlightServiceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.getWebSocket().getSession();
+        this.meterRegistry = meterRegistry;
+        this.framesDropped = Counter.builder("websocket.session.drops")
+                .description("Feed frames not sent to sessions that were too far behind")
+                .register(meterRegistry);
+        this.slowDisconnects = Counter.builder("websocket.session.slow.disconnects")
+                .description("Sessions closed after staying behind for longer than allowed")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions.degraded", sessions,
+                        states -> states.values().stream().filter(SessionState::isDegraded).count())
+                .description("Sessions currently over their pending message limit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Wraps the STOMP handler so every session's socket writes are seen by the guard.
+     */
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionState state = new SessionState(session);
+                sessions.put(session.getId(), state);
+                super.afterConnectionEstablished(state.countingSession);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionState state = sessions.remove(session.getId());
+                if (state != null) {
+                    state.unregisterMeters();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionState state = sessionId != null ? sessions.get(sessionId) : null;
+        if (state == null) {
+            return message;
+        }
+
+        Object stream = message.getHeaders().get(TopicSequencer.FEED_STREAM_HEADER);
+        if (stream != null) {
+            if (state.pending.get() >= properties.getMaxPending()) {
+                state.markDegraded();
+            } else if (state.pending.get() == 0) {
+                state.clearDegraded();
+            }
+
+            if (state.isDegraded()) {
+                Message<?> replacement = properties.getPolicy() == Policy.SNAPSHOT
+                        ? state.resyncMarker(message, stream.toString()) : null;
+                if (replacement == null) {
+                    state.recordDrop(message, channel);
+                    framesDropped.increment();
+                    return null;
+                }
+                message = replacement;
+            }
+        }
+
+        state.pending.incrementAndGet();
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent) {
+            // Never handed to the executor, so no socket write will count it down
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            SessionState state = sessionId != null ? sessions.get(sessionId) : null;
+            if (state != null) {
+                state.pending.decrementAndGet();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void closeStalledSessions() {
+        long now = System.currentTimeMillis();
+        long maxDegradedMillis = properties.getMaxDegraded().toMillis();
+        for (SessionState state : sessions.values()) {
+            if (state.pending.get() == 0) {
+                state.clearDegraded();
+                continue;
+            }
+            long since = state.degradedSince;
+            if (since > 0 && now - since > maxDegradedMillis) {
+                slowDisconnects.increment();
+                log.warn("Closing WebSocket session {}: {} messages pending for {} ms",
+                        state.countingSession.getId(), state.pending.get(), now - since);
+                try {
+                    state.countingSession.close(CloseStatus.SESSION_NOT_RELIABLE);
+                } catch (IOException e) {
+                    log.debug("Failed to close WebSocket session {}: {}", state.countingSession.getId(),
+                            e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Message<?> resyncFrame(Message<?> frame, String stream) {
+        byte[] payload = ("{\"stream\":\"" + stream + "\",\"resync\":true}").getBytes(StandardCharsets.UTF_8);
+        return MessageBuilder.createMessage(payload, frame.getHeaders());
+    }
+
+    private class SessionState {
+
+        private final WebSocketSession countingSession;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicLong dropped = new AtomicLong();
+        private final Map<String, Long> lastResyncAt = new ConcurrentHashMap<>();
+        // Last frame dropped per destination since its last resync marker, kept as the template for the next one
+        private final Map<String, Message<?>> droppedFrames = new ConcurrentHashMap<>();
+        private volatile MessageChannel outboundChannel;
+        private final List<Meter> meters;
+        private volatile long degradedSince;
+
+        SessionState(WebSocketSession session) {
+            this.countingSession = new WebSocketSessionDecorator(session) {
+                @Override
+                public void sendMessage(WebSocketMessage<?> message) throws IOException {
+                    try {
+                        super.sendMessage(message);
+                    } finally {
+                        pending.updateAndGet(count -> Math.max(0, count - 1));
+                    }
+                }
+            };
+            this.meters = List.of(
+                    Gauge.builder("websocket.session.queue.depth", pending, AtomicInteger::get)
+                            .tag("session", session.getId())
+                            .register(meterRegistry),
+                    FunctionCounter.builder("websocket.session.dropped", dropped, AtomicLong::get)
+                            .tag("session", session.getId())
+                            .register(meterRegistry));
+        }
+
+        boolean isDegraded() {
+            return degradedSince > 0;
+        }
+
+        void markDegraded() {
+            if (degradedSince == 0) {
+                degradedSince = System.currentTimeMillis();
+            }
+        }
+
+        void clearDegraded() {
+            degradedSince = 0;
+            lastResyncAt.clear();
+            resyncDroppedDestinations();
+        }
+
+        void recordDrop(Message<?> frame, MessageChannel channel) {
+            dropped.incrementAndGet();
+            String destination = SimpMessageHeaderAccessor.getDestination(frame.getHeaders());
+            if (destination != null) {
+                outboundChannel = channel;
+                droppedFrames.put(destination, frame);
+            }
+        }
+
+        private void resyncDroppedDestinations() {
+            for (String destination : droppedFrames.keySet()) {
+                // Removed before sending, so the marker passing through preSend does not queue itself again
+                Message<?> frame = droppedFrames.remove(destination);
+                if (frame == null) {
+                    continue;
+                }
+                Object stream = frame.getHeaders().get(TopicSequencer.FEED_STREAM_HEADER);
+                try {
+                    outboundChannel.send(resyncFrame(frame, String.valueOf(stream)));
+                } catch (RuntimeException e) {
+                    log.debug("Failed to queue resync marker for {} on session {}: {}", destination,
+                            countingSession.getId(), e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * At most one marker per destination and snapshot interval; the client answers it with a snapshot load.
+         */
+        Message<?> resyncMarker(Message<?> frame, String stream) {
+            String destination = SimpMessageHeaderAccessor.getDestination(frame.getHeaders());
+            long now = System.currentTimeMillis();
+            long interval = properties.getSnapshotInterval().toMillis();
+            boolean due = destination != null && lastResyncAt.compute(destination,
+                    (key, last) -> last == null || now - last >= interval ? now : last) == now;
+            if (!due) {
+                return null;
+            }
+            droppedFrames.remove(destination);
+            return resyncFrame(frame, stream);
+        }
+
+        void unregisterMeters() {
+            meters.forEach(meterRegistry::remove);
+        }
+    }
+}
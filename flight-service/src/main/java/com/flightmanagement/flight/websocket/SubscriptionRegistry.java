@@ -0,0 +1,172 @@
+package com.flightmanagement.flight.websocket;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Broker subscriptions of this instance per destination, kept from the STOMP session events.
+ * A destination stays watched for {@code resume-grace} after its last subscriber left, so frames keep
+ * being numbered and buffered for clients that reconnect and resume.
+ * <p>
+ * Pattern subscriptions such as {@code /topic/flights/*} are kept apart and matched the way
+ * the simple broker matches them, so every destination they cover counts as watched.
+ */
+@Component
+@Slf4j
+public class SubscriptionRegistry {
+
+    private static final String BROKER_PREFIX = "/topic/";
+
+    // Same matcher as the simple broker's subscription registry
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Map<String, AtomicInteger> subscribersByDestination = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> subscribersByPattern = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> destinationsBySession = new ConcurrentHashMap<>();
+    private final Cache<String, Boolean> recentlyLeft;
+    private final Cache<String, Boolean> recentlyLeftPatterns;
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public SubscriptionRegistry(FlightServiceProperties properties, MeterRegistry meterRegistry) {
+        this.recentlyLeft = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getWebSocket().getResumeGrace())
+                .build();
+        this.recentlyLeftPatterns = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getWebSocket().getResumeGrace())
+                .build();
+        Gauge.builder("websocket.subscriptions.active", destinationsBySession,
+                        sessions -> sessions.values().stream().mapToInt(Map::size).sum())
+                .description("Broker subscriptions held by clients of this instance")
+                .register(meterRegistry);
+        Gauge.builder("websocket.destinations.subscribed", subscribersByDestination, Map::size)
+                .description("Destinations with at least one subscriber on this instance")
+                .register(meterRegistry);
+        Gauge.builder("websocket.patterns.subscribed", subscribersByPattern, Map::size)
+                .description("Destination patterns with at least one subscriber on this instance")
+                .register(meterRegistry);
+    }
+
+    public boolean isWatched(String destination) {
+        return subscribersByDestination.containsKey(destination) || recentlyLeft.getIfPresent(destination) != null
+                || matchesAny(subscribersByPattern.keySet(), destination)
+                || matchesAny(recentlyLeftPatterns.asMap().keySet(), destination);
+    }
+
+    /**
+     * Watched destinations and patterns; other instances match them with {@link #covers}.
+     */
+    public Set<String> watchedDestinations() {
+        Set<String> watched = new HashSet<>(subscribersByDestination.keySet());
+        watched.addAll(recentlyLeft.asMap().keySet());
+        watched.addAll(subscribersByPattern.keySet());
+        watched.addAll(recentlyLeftPatterns.asMap().keySet());
+        return watched;
+    }
+
+    public boolean isPattern(String destination) {
+        return pathMatcher.isPattern(destination);
+    }
+
+    /**
+     * Whether a subscription to {@code subscribed}, a destination or a pattern, receives what is sent to
+     * {@code destination}.
+     */
+    public boolean covers(String subscribed, String destination) {
+        return subscribed.equals(destination)
+                || (pathMatcher.isPattern(subscribed) && pathMatcher.match(subscribed, destination));
+    }
+
+    /**
+     * Called with each destination that gains its first subscriber on this instance.
+     */
+    public void onNewDestination(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (accessor.getSessionId() == null || destination == null
+                || !(destination.startsWith(BROKER_PREFIX) || isPattern(destination))) {
+            return;
+        }
+
+        destinationsBySession.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), destination);
+        AtomicInteger subscribers = subscribersOf(destination).compute(destination, (key, count) -> {
+            AtomicInteger updated = count != null ? count : new AtomicInteger();
+            updated.incrementAndGet();
+            return updated;
+        });
+        if (subscribers.get() == 1) {
+            listeners.forEach(listener -> listener.accept(destination));
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() != null
+                ? destinationsBySession.get(accessor.getSessionId()) : null;
+        if (subscriptions != null && accessor.getSubscriptionId() != null) {
+            release(subscriptions.remove(accessor.getSubscriptionId()));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = destinationsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void release(String destination) {
+        if (destination == null) {
+            return;
+        }
+        boolean pattern = isPattern(destination);
+        subscribersOf(destination).computeIfPresent(destination, (key, count) -> {
+            if (count.decrementAndGet() > 0) {
+                return count;
+            }
+            (pattern ? recentlyLeftPatterns : recentlyLeft).put(destination, Boolean.TRUE);
+            return null;
+        });
+    }
+
+    private Map<String, AtomicInteger> subscribersOf(String destination) {
+        return isPattern(destination) ? subscribersByPattern : subscribersByDestination;
+    }
+
+    private boolean matchesAny(Set<String> patterns, String destination) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,164 @@
+package com.flightmanagement.flight.websocket;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Numbers the frames sent to each topic and keeps the most recent ones, so a client that reconnects
+ * can ask for what it missed. Sequences belong to a stream that starts whenever a topic's history is
+ * created on this instance; a client holding another stream id cannot resume and needs a snapshot.
+ */
+@Component
+@Slf4j
+public class TopicSequencer {
+
+    // Carried to every subscriber's copy of a frame, so outbound handling can tell feed frames apart
+    public static final String FEED_STREAM_HEADER = "feedStream";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final FlightServiceProperties.WebSocket properties;
+    private final Cache<String, TopicHistory> histories;
+
+    private final Counter resumedWithDeltas;
+    private final Counter resumedWithSnapshot;
+
+    public TopicSequencer(SimpMessagingTemplate messagingTemplate, FlightServiceProperties properties,
+                          MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.properties = properties.getWebSocket();
+        this.histories = Caffeine.newBuilder()
+                .maximumSize(this.properties.getReplayTopics())
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+        this.resumedWithDeltas = Counter.builder("websocket.resume")
+                .tags("result", "deltas")
+                .register(meterRegistry);
+        this.resumedWithSnapshot = Counter.builder("websocket.resume")
+                .tags("result", "snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends {@code updates}, an encoded JSON array, as the next frame of the topic.
+     */
+    public void deliver(String destination, byte[] updates) {
+        TopicHistory history = histories.get(destination, key -> new TopicHistory(properties.getReplayCapacity()));
+        // Numbering and sending under one lock keeps frames on the wire in sequence order
+        synchronized (history) {
+            byte[] frame = history.append(updates);
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setHeader(FEED_STREAM_HEADER, history.stream());
+            accessor.setLeaveMutable(true);
+            Message<byte[]> message = MessageBuilder.createMessage(frame, accessor.getMessageHeaders());
+            messagingTemplate.send(destination, message);
+        }
+    }
+
+    /**
+     * Frames of the given stream after {@code lastSeq}. The frames are {@code null} when they are no longer
+     * all buffered, or the stream has changed, and the client has to start again from a snapshot.
+     */
+    public Replay replay(String destination, String stream, Long lastSeq) {
+        TopicHistory history = histories.getIfPresent(destination);
+        if (history == null) {
+            resumedWithSnapshot.increment();
+            return new Replay(null, 0, 0, null);
+        }
+        synchronized (history) {
+            Replay replay = history.replayAfter(stream, lastSeq);
+            (replay.frames() != null ? resumedWithDeltas : resumedWithSnapshot).increment();
+            return replay;
+        }
+    }
+
+    /**
+     * Current stream and sequence of a topic, with the missed frames or {@code null} when a snapshot is needed.
+     * When {@code seq} is positive, {@code deliveredAt} is the {@link System#nanoTime()} reading of the latest
+     * frame; a snapshot has to be queried after it to include every change up to {@code seq}.
+     */
+    public record Replay(String stream, long seq, long deliveredAt, List<byte[]> frames) {
+    }
+
+    /**
+     * Sequence and most recent frames of one topic. Not thread-safe; callers hold its monitor.
+     */
+    static class TopicHistory {
+
+        private final String stream = UUID.randomUUID().toString().substring(0, 8);
+        private final Deque<SequencedFrame> recent = new ArrayDeque<>();
+        private final int capacity;
+        private long seq;
+        private long deliveredAt;
+
+        TopicHistory(int capacity) {
+            this.capacity = capacity;
+        }
+
+        String stream() {
+            return stream;
+        }
+
+        byte[] append(byte[] updates) {
+            seq++;
+            deliveredAt = System.nanoTime();
+            byte[] frame = toFrame(updates);
+            recent.addLast(new SequencedFrame(seq, frame));
+            if (recent.size() > capacity) {
+                recent.removeFirst();
+            }
+            return frame;
+        }
+
+        Replay replayAfter(String clientStream, Long lastSeq) {
+            if (!stream.equals(clientStream) || lastSeq == null || lastSeq > seq) {
+                return new Replay(stream, seq, deliveredAt, null);
+            }
+            SequencedFrame oldest = recent.peekFirst();
+            if (lastSeq < seq && (oldest == null || oldest.seq() > lastSeq + 1)) {
+                return new Replay(stream, seq, deliveredAt, null);
+            }
+
+            List<byte[]> missed = new ArrayList<>();
+            for (SequencedFrame frame : recent) {
+                if (frame.seq() > lastSeq) {
+                    missed.add(frame.frame());
+                }
+            }
+            return new Replay(stream, seq, deliveredAt, missed);
+        }
+
+        private byte[] toFrame(byte[] updates) {
+            byte[] head = ("{\"stream\":\"" + stream + "\",\"seq\":" + seq + ",\"updates\":")
+                    .getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream frame = new ByteArrayOutputStream(head.length + updates.length + 1);
+            frame.writeBytes(head);
+            frame.writeBytes(updates);
+            frame.write('}');
+            return frame.toByteArray();
+        }
+    }
+
+    private record SequencedFrame(long seq, byte[] frame) {
+    }
+}
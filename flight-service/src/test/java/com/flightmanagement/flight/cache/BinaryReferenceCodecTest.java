@@ -0,0 +1,76 @@
+package com.flightmanagement.flight.cache;
+
+import com.flightmanagement.flight.dto.reference.AircraftRef;
+import com.flightmanagement.flight.dto.reference.AirlineRef;
+import com.flightmanagement.flight.dto.reference.StationRef;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryReferenceCodecTest {
+
+    private final BinaryReferenceCodec codec = new BinaryReferenceCodec();
+
+    @Test
+    void roundTripsEveryRecordType() throws IOException {
+        assertRoundTrip(new AirlineRef(1L, "BA", "British Airways", "UK", true));
+        assertRoundTrip(new StationRef(2L, "EGLL", "LHR", "Heathrow", "London", "UK", "Europe/London", true));
+        assertRoundTrip(new AircraftRef(3L, "A320", "Airbus", "A320neo", 180, true));
+    }
+
+    @Test
+    void keepsNullsApartFromFalseAndEmpty() throws IOException {
+        assertRoundTrip(new AirlineRef(null, null, null, null, null));
+        assertRoundTrip(new AirlineRef(0L, "", "", "", false));
+        assertRoundTrip(new StationRef(null, null, null, null, null, null, null, null));
+        assertRoundTrip(new AircraftRef(null, null, null, null, null, null));
+        assertRoundTrip(new AircraftRef(4L, "B738", null, "", 0, false));
+    }
+
+    @Test
+    void readsExactlyTheBytesOfOneRecord() throws IOException {
+        AirlineRef airline = new AirlineRef(1L, "BA", "British Airways", "UK", true);
+        AircraftRef aircraft = new AircraftRef(3L, "A320", "Airbus", "A320neo", 180, null);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(concat(encode(airline), encode(aircraft))));
+
+        assertThat(codec.read(AirlineRef.class, in)).isEqualTo(airline);
+        assertThat(codec.read(AircraftRef.class, in)).isEqualTo(aircraft);
+        assertThat(in.available()).isZero();
+    }
+
+    @Test
+    void rejectsUnsupportedTypes() {
+        DataOutputStream out = new DataOutputStream(new ByteArrayOutputStream());
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[0]));
+
+        assertThatThrownBy(() -> codec.write("EGLL", out)).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> codec.read(String.class, in)).isInstanceOf(IOException.class);
+    }
+
+    private void assertRoundTrip(Object reference) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(encode(reference)));
+        assertThat(codec.read(reference.getClass(), in)).isEqualTo(reference);
+    }
+
+    private byte[] encode(Object reference) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        codec.write(reference, out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = new byte[first.length + second.length];
+        System.arraycopy(first, 0, joined, 0, first.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+}
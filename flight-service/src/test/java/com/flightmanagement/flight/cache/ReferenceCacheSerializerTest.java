@@ -0,0 +1,125 @@
+package com.flightmanagement.flight.cache;
+
+import com.flightmanagement.flight.dto.reference.AircraftRef;
+import com.flightmanagement.flight.dto.reference.AirlineRef;
+import com.flightmanagement.flight.dto.reference.StationRef;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceCacheSerializerTest {
+
+    private static final List<Object> RECORDS = List.of(
+            new AirlineRef(1L, "BA", "British Airways", "UK", true),
+            new StationRef(2L, "EGLL", "LHR", "Heathrow", "London", "UK", "Europe/London", false),
+            new AircraftRef(3L, "A320", "Airbus", "A320neo", 180, true));
+
+    private static final List<Object> NULL_RECORDS = List.of(
+            new AirlineRef(null, null, null, null, null),
+            new StationRef(null, null, null, null, null, null, null, null),
+            new AircraftRef(null, null, null, null, null, null));
+
+    static Stream<ReferenceCodec> codecs() {
+        return Stream.of(new BinaryReferenceCodec(), new JsonReferenceCodec());
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void roundTripsEveryRecordType(ReferenceCodec codec) {
+        ReferenceCacheSerializer serializer = serializer(codec);
+
+        for (Object record : RECORDS) {
+            assertThat(serializer.deserialize(serializer.serialize(record))).isEqualTo(record);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void roundTripsNullFields(ReferenceCodec codec) {
+        ReferenceCacheSerializer serializer = serializer(codec);
+
+        for (Object record : NULL_RECORDS) {
+            assertThat(serializer.deserialize(serializer.serialize(record))).isEqualTo(record);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void wrappedValueKeepsLoadTimeAndEtag(ReferenceCodec codec) {
+        ReferenceCacheSerializer serializer = serializer(codec);
+        CachedValue withEtag = new CachedValue(RECORDS.get(1), 1_700_000_000_000L, "\"v7\"");
+        CachedValue withoutEtag = new CachedValue(NULL_RECORDS.get(2), 42L);
+
+        assertThat(serializer.deserialize(serializer.serialize(withEtag))).isEqualTo(withEtag);
+        assertThat(serializer.deserialize(serializer.serialize(withoutEtag))).isEqualTo(withoutEtag);
+    }
+
+    @ParameterizedTest
+    @MethodSource("codecs")
+    void bareValueIsNotReadAsWrapped(ReferenceCodec codec) {
+        ReferenceCacheSerializer serializer = serializer(codec);
+
+        Object read = serializer.deserialize(serializer.serialize(RECORDS.get(0)));
+
+        assertThat(read).isNotInstanceOf(CachedValue.class).isEqualTo(RECORDS.get(0));
+    }
+
+    @Test
+    void otherSchemaVersionReadsAsMiss() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReferenceCacheSerializer serializer = new ReferenceCacheSerializer(new BinaryReferenceCodec(), meterRegistry);
+        byte[] payload = serializer.serialize(new CachedValue(RECORDS.get(0), 1L));
+        payload[0] = ReferenceCacheSerializer.SCHEMA_VERSION - 1;
+
+        assertThat(serializer.deserialize(payload)).isNull();
+        assertThat(meterRegistry.get("cache.codec.schema.mismatch").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void jsonAndBinaryReadTheSameValues() {
+        ReferenceCacheSerializer binary = serializer(new BinaryReferenceCodec());
+        ReferenceCacheSerializer json = serializer(new JsonReferenceCodec());
+
+        Stream.concat(RECORDS.stream(), NULL_RECORDS.stream())
+                .flatMap(record -> Stream.of(record, new CachedValue(record, 5L, "etag")))
+                .forEach(value -> assertThat(json.deserialize(json.serialize(value)))
+                        .isEqualTo(binary.deserialize(binary.serialize(value))));
+    }
+
+    @Test
+    void emptyPayloadReadsAsMiss() {
+        ReferenceCacheSerializer serializer = serializer(new BinaryReferenceCodec());
+
+        assertThat(serializer.deserialize(null)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    void rejectsValuesThatAreNotReferenceRecords() {
+        ReferenceCacheSerializer serializer = serializer(new BinaryReferenceCodec());
+
+        assertThatThrownBy(() -> serializer.serialize("EGLL")).isInstanceOf(SerializationException.class);
+        assertThatThrownBy(() -> serializer.serialize(new CachedValue(null, 1L)))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void unknownTypeTagFailsToDecode() {
+        byte[] payload = {ReferenceCacheSerializer.SCHEMA_VERSION, 0x7f};
+
+        assertThatThrownBy(() -> serializer(new BinaryReferenceCodec()).deserialize(payload))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private static ReferenceCacheSerializer serializer(ReferenceCodec codec) {
+        return new ReferenceCacheSerializer(codec, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,61 @@
+package com.flightmanagement.flight.dto.request;
+
+import com.flightmanagement.flight.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightCursorTest {
+
+    @Test
+    void encodedCursorDecodesToSamePosition() {
+        FlightCursor cursor = new FlightCursor(LocalDate.of(2024, 3, 1), LocalTime.of(9, 45), 42L);
+
+        assertThat(FlightCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String token = new FlightCursor(LocalDate.of(2024, 12, 31), LocalTime.of(23, 59, 59), 9_999_999L).encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void blankTokenMeansFirstPage() {
+        assertThat(FlightCursor.decode(null)).isNull();
+        assertThat(FlightCursor.decode("  ")).isNull();
+    }
+
+    @Test
+    void garbageTokenIsRejected() {
+        assertThatThrownBy(() -> FlightCursor.decode("not a cursor!"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void tokenWithWrongPartCountIsRejected() {
+        assertThatThrownBy(() -> FlightCursor.decode(encode("2024-03-01|09:45")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> FlightCursor.decode(encode("2024-03-01|09:45|42|7")))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void tokenWithUnparsablePartsIsRejected() {
+        assertThatThrownBy(() -> FlightCursor.decode(encode("2024-13-01|09:45|42")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> FlightCursor.decode(encode("2024-03-01|09:45|abc")))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,23 @@
+package com.flightmanagement.flight.exception;
+
+import com.flightmanagement.flight.dto.response.ErrorResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void malformedCursorIsBadRequest() {
+        ResponseEntity<ErrorResponseDto> response =
+                handler.handleInvalidCursor(new InvalidCursorException("Malformed cursor"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getMessage()).isEqualTo("Malformed cursor");
+    }
+}
@@ -0,0 +1,110 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.projection.GateAssignment;
+import com.flightmanagement.flight.entity.OperationalFlight;
+import com.flightmanagement.flight.enums.FlightStatus;
+import com.flightmanagement.flight.repository.OperationalFlightRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GateOccupancyIndexTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 1);
+    private static final Long STATION_ID = 10L;
+
+    @Mock
+    private OperationalFlightRepository flightRepository;
+
+    private final FlightServiceProperties properties = new FlightServiceProperties();
+    private final AtomicReference<Runnable> duringLoad = new AtomicReference<>();
+    private List<GateAssignment> rows = List.of(assignment(1L, "A1", LocalTime.of(10, 0)));
+
+    @BeforeEach
+    void setUp() {
+        when(flightRepository.findGateAssignmentsByFlightDate(any(), eq(FlightStatus.CANCELLED)))
+                .thenAnswer(invocation -> {
+                    if (!DATE.equals(invocation.getArgument(0))) {
+                        return List.of();
+                    }
+                    Runnable write = duringLoad.getAndSet(null);
+                    if (write != null) {
+                        write.run();
+                    }
+                    return rows;
+                });
+    }
+
+    @Test
+    void findsFlightsLoadedFromTheDay() {
+        GateOccupancyIndex index = new GateOccupancyIndex(flightRepository, properties);
+
+        assertThat(index.findOverlapping(STATION_ID, null, "a1", DATE, LocalTime.of(10, 30), null))
+                .extracting(GateOccupancyIndex.Occupancy::flightId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void writeCommittedWhileDayLoadsWinsOverLoadedRow() {
+        GateOccupancyIndex index = new GateOccupancyIndex(flightRepository, properties);
+        duringLoad.set(() -> index.remove(1L));
+
+        assertThat(index.findOverlapping(STATION_ID, null, "A1", DATE, LocalTime.of(10, 30), null)).isEmpty();
+    }
+
+    @Test
+    void flightMovedToAnotherDayLeavesItsOldDay() {
+        GateOccupancyIndex index = new GateOccupancyIndex(flightRepository, properties);
+        index.findOverlapping(STATION_ID, null, "A1", DATE, LocalTime.of(10, 30), null);
+
+        index.register(flight(1L, "A1", DATE.plusDays(3)));
+
+        assertThat(index.findOverlapping(STATION_ID, null, "A1", DATE, LocalTime.of(10, 30), null)).isEmpty();
+    }
+
+    @Test
+    void reloadPicksUpWritesMadeElsewhere() {
+        properties.getGate().setReseedInterval(Duration.ZERO);
+        GateOccupancyIndex index = new GateOccupancyIndex(flightRepository, properties);
+        index.findOverlapping(STATION_ID, null, "A1", DATE, LocalTime.of(10, 30), null);
+
+        rows = List.of(assignment(1L, "B2", LocalTime.of(10, 0)));
+
+        assertThat(index.findOverlapping(STATION_ID, null, "A1", DATE, LocalTime.of(10, 30), null)).isEmpty();
+        assertThat(index.findOverlapping(STATION_ID, null, "B2", DATE, LocalTime.of(10, 30), null))
+                .extracting(GateOccupancyIndex.Occupancy::flightId)
+                .containsExactly(1L);
+    }
+
+    private static GateAssignment assignment(Long id, String gate, LocalTime departure) {
+        return new GateAssignment(id, "FM" + id, STATION_ID, DATE, departure, null, null, null, gate);
+    }
+
+    private static OperationalFlight flight(Long id, String gate, LocalDate date) {
+        return OperationalFlight.builder()
+                .id(id)
+                .flightNumber("FM" + id)
+                .originStationId(STATION_ID)
+                .flightDate(date)
+                .scheduledDepartureTime(LocalTime.of(10, 0))
+                .gate(gate)
+                .status(FlightStatus.SCHEDULED)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.dto.request.FlightCursor;
+import com.flightmanagement.flight.dto.response.CursorPage;
+import com.flightmanagement.flight.dto.response.OperationalFlightResponseDto;
+import com.flightmanagement.flight.entity.OperationalFlight;
+import com.flightmanagement.flight.mapper.OperationalFlightMapperImpl;
+import com.flightmanagement.flight.repository.OperationalFlightRepository;
+import com.flightmanagement.flight.security.UserContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OperationalFlightServiceCursorTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 1);
+    private static final UserContext ADMIN = UserContext.builder()
+            .username("admin")
+            .roles(List.of("ROLE_ADMIN"))
+            .build();
+
+    @Mock
+    private OperationalFlightRepository flightRepository;
+    @Mock
+    private OperationalFlightMapperImpl flightMapper;
+
+    @InjectMocks
+    private OperationalFlightService flightService;
+
+    @Test
+    void extraRowMeansAnotherPageFollows() {
+        when(flightRepository.findFirstPage(Limit.of(3))).thenReturn(flights(1, 3));
+        when(flightMapper.toResponseDto(any())).thenReturn(new OperationalFlightResponseDto());
+
+        CursorPage<OperationalFlightResponseDto> page = flightService.getFlights(null, 2, false, ADMIN);
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getSize()).isEqualTo(2);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(FlightCursor.decode(page.getNextCursor())).isEqualTo(new FlightCursor(DATE, LocalTime.of(8, 2), 2L));
+        assertThat(page.getTotalElements()).isNull();
+        verify(flightRepository, never()).count();
+    }
+
+    @Test
+    void fullLastPageHasNoNextCursor() {
+        FlightCursor cursor = new FlightCursor(DATE, LocalTime.of(8, 2), 2L);
+        when(flightRepository.findPageAfter(DATE, LocalTime.of(8, 2), 2L, Limit.of(3))).thenReturn(flights(3, 2));
+        when(flightMapper.toResponseDto(any())).thenReturn(new OperationalFlightResponseDto());
+
+        CursorPage<OperationalFlightResponseDto> page = flightService.getFlights(cursor, 2, false, ADMIN);
+
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void emptyPageHasNoNextCursor() {
+        when(flightRepository.findFirstPage(Limit.of(3))).thenReturn(List.of());
+        when(flightRepository.count()).thenReturn(0L);
+
+        CursorPage<OperationalFlightResponseDto> page = flightService.getFlights(null, 2, true, ADMIN);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    private static List<OperationalFlight> flights(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> OperationalFlight.builder()
+                        .id(id)
+                        .flightDate(DATE)
+                        .scheduledDepartureTime(LocalTime.of(8, (int) id))
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,162 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.reference.AirlineRef;
+import com.flightmanagement.flight.dto.reference.ReferenceSnapshot;
+import com.flightmanagement.flight.dto.reference.StationRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataStoreTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final FlightServiceProperties properties = new FlightServiceProperties();
+    private ReferenceDataStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ReferenceDataStore(restTemplate, properties);
+    }
+
+    @Test
+    void nextVersionIsAppliedAndAdvancesVersion() {
+        load(snapshot(10, "AA"));
+
+        store.applyChange(airlineChange(11, "BB"));
+
+        assertThat(store.findAirline(1L)).map(AirlineRef::code).contains("BB");
+        assertThat(store.findAirlineByCode("AA")).isEmpty();
+        assertThat(store.getVersion()).isEqualTo(11);
+    }
+
+    @Test
+    void redeliveredChangeIsIgnored() {
+        load(snapshot(10, "AA"));
+
+        store.applyChange(airlineChange(11, "BB"));
+        store.applyChange(airlineChange(12, "CC"));
+        store.applyChange(airlineChange(11, "BB"));
+
+        assertThat(store.findAirline(1L)).map(AirlineRef::code).contains("CC");
+        assertThat(store.getVersion()).isEqualTo(12);
+    }
+
+    @Test
+    void changesOlderThanSnapshotAreIgnored() {
+        load(snapshot(10, "AA"));
+
+        store.applyChange(airlineChange(9, "ZZ"));
+
+        assertThat(store.findAirline(1L)).map(AirlineRef::code).contains("AA");
+        assertThat(store.getVersion()).isEqualTo(10);
+    }
+
+    @Test
+    void outOfOrderChangesAreAppliedAndCloseTheGap() {
+        load(snapshot(10, "AA"));
+
+        store.applyChange(stationChange(12, "EGLL"));
+        assertThat(store.findStationByIcao("EGLL")).isPresent();
+        assertThat(store.getVersion()).isEqualTo(10);
+
+        store.applyChange(airlineChange(11, "BB"));
+        assertThat(store.findAirlineByCode("BB")).isPresent();
+        assertThat(store.getVersion()).isEqualTo(12);
+    }
+
+    @Test
+    void gapThatDoesNotFillReloadsSnapshot() {
+        properties.getReferenceSync().setGapTimeout(Duration.ZERO);
+        load(snapshot(10, "AA"));
+        store.applyChange(stationChange(12, "EGLL"));
+
+        when(restTemplate.getForObject(anyString(), eq(ReferenceSnapshot.class))).thenReturn(snapshot(12, "BB"));
+        store.reloadIfGapExpired();
+
+        assertThat(store.findAirline(1L)).map(AirlineRef::code).contains("BB");
+        assertThat(store.getVersion()).isEqualTo(12);
+    }
+
+    @Test
+    void noReloadWithoutGap() {
+        properties.getReferenceSync().setGapTimeout(Duration.ZERO);
+        load(snapshot(10, "AA"));
+        store.applyChange(airlineChange(11, "BB"));
+
+        store.reloadIfGapExpired();
+
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(ReferenceSnapshot.class));
+    }
+
+    @Test
+    void lostLatestChangeIsCaughtByVersionCheck() {
+        load(snapshot(10, "AA"));
+        store.applyChange(stationChange(12, "EGLL"));
+
+        when(restTemplate.getForObject(anyString(), eq(Map.class))).thenReturn(Map.of("version", 12));
+        when(restTemplate.getForObject(anyString(), eq(ReferenceSnapshot.class))).thenReturn(snapshot(12, "BB"));
+        store.synchronize();
+
+        assertThat(store.findAirline(1L)).map(AirlineRef::code).contains("BB");
+        assertThat(store.getVersion()).isEqualTo(12);
+    }
+
+    @Test
+    void changesArrivingDuringSnapshotLoadAreReplayed() {
+        when(restTemplate.getForObject(anyString(), eq(ReferenceSnapshot.class))).thenAnswer(invocation -> {
+            store.applyChange(airlineChange(11, "BB"));
+            store.applyChange(airlineChange(9, "ZZ"));
+            return snapshot(10, "AA");
+        });
+
+        store.loadSnapshot();
+
+        assertThat(store.findAirline(1L)).map(AirlineRef::code).contains("BB");
+        assertThat(store.getVersion()).isEqualTo(11);
+    }
+
+    private void load(ReferenceSnapshot snapshot) {
+        when(restTemplate.getForObject(anyString(), eq(ReferenceSnapshot.class))).thenReturn(snapshot);
+        store.loadSnapshot();
+    }
+
+    private static ReferenceSnapshot snapshot(long version, String airlineCode) {
+        ReferenceSnapshot snapshot = new ReferenceSnapshot();
+        snapshot.setVersion(version);
+        snapshot.setAirlines(List.of(new AirlineRef(1L, airlineCode, "Airline", "UK", true)));
+        snapshot.setStations(List.of(new StationRef(2L, "EGKK", "LGW", "Gatwick", "London", "UK",
+                "Europe/London", true)));
+        return snapshot;
+    }
+
+    private static Map<String, Object> airlineChange(long version, String code) {
+        return change("AIRLINE", 1L, version, Map.of("id", 1L, "code", code, "name", "Airline"));
+    }
+
+    private static Map<String, Object> stationChange(long version, String icaoCode) {
+        return change("STATION", 2L, version, Map.of("id", 2L, "icaoCode", icaoCode, "iataCode", "LHR"));
+    }
+
+    private static Map<String, Object> change(String entityType, Long entityId, long version, Map<String, Object> data) {
+        return Map.of("eventType", "UPDATED", "entityType", entityType, "entityId", entityId, "version", version,
+                "data", data);
+    }
+}
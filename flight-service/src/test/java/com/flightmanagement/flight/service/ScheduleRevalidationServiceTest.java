@@ -0,0 +1,240 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import com.flightmanagement.flight.dto.projection.FlightScheduleSlot;
+import com.flightmanagement.flight.dto.response.RevalidationResultDto;
+import com.flightmanagement.flight.entity.FlightConflict;
+import com.flightmanagement.flight.enums.ConflictSource;
+import com.flightmanagement.flight.enums.ConflictType;
+import com.flightmanagement.flight.enums.FlightStatus;
+import com.flightmanagement.flight.exception.RevalidationInProgressException;
+import com.flightmanagement.flight.repository.FlightConflictRepository;
+import com.flightmanagement.flight.repository.OperationalFlightRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleRevalidationServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    // f1 and f2 share an aircraft within the turnaround buffer, f1 and f4 depart 20 minutes apart from one station,
+    // f3 is clear of both, and f5 repeats f1 on the next day, which is a partition of its own
+    private static final FlightScheduleSlot F1 = slot(1L, 100L, 200L, DAY, "08:00", "10:00");
+    private static final FlightScheduleSlot F2 = slot(2L, 100L, 201L, DAY, "10:15", "12:00");
+    private static final FlightScheduleSlot F3 = slot(3L, 100L, 202L, DAY, "14:00", "16:00");
+    private static final FlightScheduleSlot F4 = slot(4L, 101L, 200L, DAY, "08:20", "09:30");
+    private static final FlightScheduleSlot F5 = slot(5L, 100L, 200L, DAY.plusDays(1), "08:00", "10:00");
+
+    @Mock
+    private OperationalFlightRepository flightRepository;
+    @Mock
+    private FlightConflictRepository conflictRepository;
+    @Mock
+    private EventPublishService eventPublishService;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final List<String> timeline = new ArrayList<>();
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+    private ScheduleRevalidationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ScheduleRevalidationService(flightRepository, conflictRepository, eventPublishService, pool,
+                new TransactionTemplate(new RecordingTransactionManager(timeline)), stringRedisTemplate,
+                new FlightServiceProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void detectsConflictsWithinEachAircraftAndStationDay() {
+        leaseAvailable();
+        schedule();
+        openConflicts();
+
+        RevalidationResultDto result = service.revalidate(DAY, DAY.plusDays(1));
+
+        assertThat(result.getFlightsChecked()).isEqualTo(5);
+        assertThat(result.getOpenConflicts()).isEqualTo(2);
+        assertThat(keys(savedConflicts().get(0))).containsExactlyInAnyOrder(
+                "AIRCRAFT_DOUBLE_BOOKING:1:2", "SLOT_CONFLICT:1:4");
+    }
+
+    @Test
+    void keepsOpenFindingsAndClearsStaleAndDuplicateOnes() {
+        leaseAvailable();
+        schedule();
+        FlightConflict kept = conflict(10L, ConflictType.AIRCRAFT_DOUBLE_BOOKING, 1L, 2L);
+        FlightConflict duplicate = conflict(11L, ConflictType.AIRCRAFT_DOUBLE_BOOKING, 1L, 2L);
+        FlightConflict stale = conflict(12L, ConflictType.SLOT_CONFLICT, 2L, 3L);
+        openConflicts(kept, duplicate, stale);
+
+        RevalidationResultDto result = service.revalidate(DAY, DAY.plusDays(1));
+
+        List<List<FlightConflict>> saved = savedConflicts();
+        assertThat(keys(saved.get(0))).containsExactly("SLOT_CONFLICT:1:4");
+        assertThat(saved.get(1)).containsExactlyInAnyOrder(duplicate, stale);
+        assertThat(saved.get(1)).allSatisfy(conflict -> {
+            assertThat(conflict.getResolution()).isEqualTo("CLEARED");
+            assertThat(conflict.getResolvedBy()).isEqualTo("system-revalidation");
+        });
+        assertThat(kept.getResolution()).isNull();
+        assertThat(result.getNewConflicts()).isEqualTo(1);
+        assertThat(result.getClearedConflicts()).isEqualTo(2);
+    }
+
+    @Test
+    void publishesOnlyAfterCommit() {
+        leaseAvailable();
+        schedule();
+        openConflicts(conflict(12L, ConflictType.SLOT_CONFLICT, 2L, 3L));
+        doAnswer(invocation -> timeline.add("publish " + invocation.getArgument(0)))
+                .when(eventPublishService).publishConflictEvent(anyString(), any());
+
+        service.revalidate(DAY, DAY.plusDays(1));
+
+        assertThat(timeline).containsExactly("commit", "publish CONFLICT_DETECTED", "publish CONFLICT_DETECTED",
+                "publish CONFLICT_CLEARED");
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("lease:schedule-revalidation")), any());
+    }
+
+    @Test
+    void rollbackPublishesNothing() {
+        leaseAvailable();
+        schedule();
+        openConflicts();
+        when(conflictRepository.saveAll(anyList())).thenThrow(new IllegalStateException("database down"));
+
+        assertThatThrownBy(() -> service.revalidate(DAY, DAY.plusDays(1))).isInstanceOf(IllegalStateException.class);
+
+        assertThat(timeline).containsExactly("rollback");
+        verifyNoInteractions(eventPublishService);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of("lease:schedule-revalidation")), any());
+    }
+
+    @Test
+    void leaseHeldByAnotherInstanceRejectsRun() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> service.revalidate(DAY, DAY))
+                .isInstanceOf(RevalidationInProgressException.class);
+
+        verifyNoInteractions(flightRepository, conflictRepository);
+        assertThat(timeline).isEmpty();
+    }
+
+    private void leaseAvailable() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any())).thenReturn(true);
+    }
+
+    private void schedule() {
+        when(flightRepository.findScheduleSlotsByFlightDate(DAY, FlightStatus.CANCELLED))
+                .thenReturn(List.of(F1, F2, F3, F4));
+        when(flightRepository.findScheduleSlotsByFlightDate(DAY.plusDays(1), FlightStatus.CANCELLED))
+                .thenReturn(List.of(F5));
+    }
+
+    private void openConflicts(FlightConflict... conflicts) {
+        when(conflictRepository.findBySourceAndResolutionIsNullAndFlightDateBetween(
+                ConflictSource.REVALIDATION, DAY, DAY.plusDays(1))).thenReturn(List.of(conflicts));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<FlightConflict>> savedConflicts() {
+        ArgumentCaptor<List<FlightConflict>> saved = ArgumentCaptor.forClass(List.class);
+        verify(conflictRepository, times(2)).saveAll(saved.capture());
+        return saved.getAllValues();
+    }
+
+    private static List<String> keys(Collection<FlightConflict> conflicts) {
+        return conflicts.stream()
+                .map(conflict -> conflict.getConflictType() + ":" + conflict.getOperationalFlightId() + ":"
+                        + conflict.getExistingFlightId())
+                .toList();
+    }
+
+    private static FlightConflict conflict(Long id, ConflictType type, Long flightId, Long otherFlightId) {
+        return FlightConflict.builder()
+                .id(id)
+                .source(ConflictSource.REVALIDATION)
+                .conflictType(type)
+                .operationalFlightId(flightId)
+                .existingFlightId(otherFlightId)
+                .flightDate(DAY)
+                .build();
+    }
+
+    private static FlightScheduleSlot slot(Long id, Long aircraftId, Long stationId, LocalDate date,
+                                           String departure, String arrival) {
+        return new FlightScheduleSlot(id, "FM" + id, aircraftId, stationId, date, LocalTime.parse(departure),
+                LocalTime.parse(arrival));
+    }
+
+    private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final List<String> timeline;
+
+        RecordingTransactionManager(List<String> timeline) {
+            this.timeline = timeline;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            timeline.add("commit");
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            timeline.add("rollback");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.flightmanagement.flight.service;
+
+import com.flightmanagement.flight.dto.response.RankedCountDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingSketchTest {
+
+    @Test
+    void countsAreExactWhileWithinCapacity() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+        sketch.add("A", 2);
+        sketch.add("B", 5);
+        sketch.add("A", 1);
+
+        assertThat(sketch.top(3)).containsExactly(
+                new RankedCountDto("B", 5),
+                new RankedCountDto("A", 3));
+    }
+
+    @Test
+    void topIsOrderedByCountThenByMostRecentCounter() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(4);
+        sketch.add("A", 2);
+        sketch.add("B", 2);
+        sketch.add("C", 7);
+
+        assertThat(sketch.top(2)).containsExactly(
+                new RankedCountDto("C", 7),
+                new RankedCountDto("B", 2));
+    }
+
+    @Test
+    void newItemTakesOverSmallestCounterAndInheritsItsCount() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        sketch.add("A", 5);
+        sketch.add("B", 2);
+        sketch.add("C", 1);
+
+        assertThat(sketch.top(2)).containsExactly(
+                new RankedCountDto("A", 5),
+                new RankedCountDto("C", 3));
+    }
+
+    @Test
+    void takeoverPicksOldestAmongEqualSmallestCounters() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        sketch.add("A", 1);
+        sketch.add("B", 1);
+        sketch.add("C", 1);
+
+        List<String> tracked = sketch.top(2).stream().map(RankedCountDto::key).toList();
+        assertThat(tracked).containsExactly("C", "B");
+    }
+
+    @Test
+    void removeLowersCountAndDropsItemAtZero() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(3);
+        sketch.add("A", 3);
+        sketch.add("B", 2);
+
+        sketch.remove("A", 2);
+        assertThat(sketch.top(3)).containsExactly(
+                new RankedCountDto("B", 2),
+                new RankedCountDto("A", 1));
+
+        sketch.remove("B", 2);
+        assertThat(sketch.top(3)).containsExactly(new RankedCountDto("A", 1));
+    }
+
+    @Test
+    void removeOfUntrackedItemIsIgnored() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        sketch.add("A", 1);
+
+        sketch.remove("Z", 1);
+
+        assertThat(sketch.top(2)).containsExactly(new RankedCountDto("A", 1));
+    }
+
+    @Test
+    void seedKeepsExactCountsAndNeverTakesOver() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        sketch.seed("A", 100);
+        sketch.seed("B", 50);
+        sketch.seed("C", 10);
+
+        assertThat(sketch.top(3)).containsExactly(
+                new RankedCountDto("A", 100),
+                new RankedCountDto("B", 50));
+    }
+
+    @Test
+    void addAfterSeedingUsesTakeover() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(2);
+        sketch.seed("A", 100);
+        sketch.seed("B", 50);
+
+        sketch.add("C", 1);
+
+        assertThat(sketch.top(2)).containsExactly(
+                new RankedCountDto("A", 100),
+                new RankedCountDto("C", 51));
+    }
+}
@@ -0,0 +1,112 @@
+package com.flightmanagement.flight.websocket;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SessionSendGuardTest {
+
+    @Mock
+    private WebSocketHandler handler;
+    @Mock
+    private WebSocketSession session;
+    @Mock
+    private MessageChannel channel;
+
+    private SessionSendGuard guard;
+    private WebSocketSession countingSession;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        FlightServiceProperties properties = new FlightServiceProperties();
+        properties.getWebSocket().getSession().setMaxPending(1);
+        guard = new SessionSendGuard(properties, new SimpleMeterRegistry());
+
+        when(session.getId()).thenReturn("s1");
+        guard.decorate(handler).afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> decorated = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(decorated.capture());
+        countingSession = decorated.getValue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recoveryQueuesOneResyncMarkerPerDestinationWithDrops() throws Exception {
+        assertThat(guard.preSend(frame("/topic/flights/a"), channel)).isNotNull();
+        assertThat(guard.preSend(frame("/topic/flights/a"), channel)).isNull();
+        assertThat(guard.preSend(frame("/topic/flights/a"), channel)).isNull();
+        assertThat(guard.preSend(frame("/topic/flights/b"), channel)).isNull();
+        verify(channel, never()).send(any());
+
+        countingSession.sendMessage(new TextMessage("frame"));
+        guard.closeStalledSessions();
+        guard.closeStalledSessions();
+
+        ArgumentCaptor<Message<?>> markers = ArgumentCaptor.forClass(Message.class);
+        verify(channel, times(2)).send(markers.capture());
+        assertThat(markers.getAllValues())
+                .extracting(marker -> SimpMessageHeaderAccessor.getDestination(marker.getHeaders()))
+                .containsExactlyInAnyOrder("/topic/flights/a", "/topic/flights/b");
+        assertThat(markers.getAllValues())
+                .extracting(marker -> new String((byte[]) marker.getPayload(), StandardCharsets.UTF_8))
+                .containsOnly("{\"stream\":\"stream-1\",\"resync\":true}");
+    }
+
+    @Test
+    void recoveryWithoutDropsSendsNothing() throws Exception {
+        guard.preSend(frame("/topic/flights/a"), channel);
+
+        countingSession.sendMessage(new TextMessage("frame"));
+        guard.closeStalledSessions();
+
+        verify(channel, never()).send(any());
+    }
+
+    @Test
+    void framesWithoutFeedStreamAreNeverDropped() {
+        guard.preSend(frame("/topic/flights/a"), channel);
+        assertThat(guard.preSend(frame("/topic/flights/a"), channel)).isNull();
+
+        Message<?> reply = MessageBuilder.createMessage(new byte[0], headers("/user/queue/replies", null));
+
+        assertThat(guard.preSend(reply, channel)).isSameAs(reply);
+    }
+
+    private static Message<byte[]> frame(String destination) {
+        return MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8), headers(destination, "stream-1"));
+    }
+
+    private static MessageHeaders headers(String destination, String stream) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId("s1");
+        accessor.setDestination(destination);
+        if (stream != null) {
+            accessor.setHeader(TopicSequencer.FEED_STREAM_HEADER, stream);
+        }
+        return accessor.getMessageHeaders();
+    }
+}
@@ -0,0 +1,91 @@
+package com.flightmanagement.flight.websocket;
+
+import com.flightmanagement.flight.config.FlightServiceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionRegistryTest {
+
+    private SubscriptionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        FlightServiceProperties properties = new FlightServiceProperties();
+        properties.getWebSocket().setResumeGrace(Duration.ZERO);
+        registry = new SubscriptionRegistry(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void exactSubscriptionWatchesOnlyItsDestination() {
+        registry.onSubscribe(subscribe("s1", "sub-1", "/topic/flights/42"));
+
+        assertThat(registry.isWatched("/topic/flights/42")).isTrue();
+        assertThat(registry.isWatched("/topic/flights/43")).isFalse();
+    }
+
+    @Test
+    void patternSubscriptionWatchesEveryDestinationItMatches() {
+        registry.onSubscribe(subscribe("s1", "sub-1", "/topic/airlines/*/flights"));
+
+        assertThat(registry.isWatched("/topic/airlines/7/flights")).isTrue();
+        assertThat(registry.isWatched("/topic/airlines/8/flights")).isTrue();
+        assertThat(registry.isWatched("/topic/airlines/7/uploads")).isFalse();
+        assertThat(registry.watchedDestinations()).containsExactly("/topic/airlines/*/flights");
+    }
+
+    @Test
+    void patternStopsMatchingOnceUnsubscribed() {
+        registry.onSubscribe(subscribe("s1", "sub-1", "/topic/flights/*"));
+        registry.onUnsubscribe(unsubscribe("s1", "sub-1"));
+
+        assertThat(registry.isWatched("/topic/flights/42")).isFalse();
+    }
+
+    @Test
+    void newDestinationListenersHearPatterns() {
+        StringBuilder announced = new StringBuilder();
+        registry.onNewDestination(announced::append);
+
+        registry.onSubscribe(subscribe("s1", "sub-1", "/topic/flights/*"));
+        registry.onSubscribe(subscribe("s2", "sub-1", "/topic/flights/*"));
+
+        assertThat(announced.toString()).isEqualTo("/topic/flights/*");
+    }
+
+    @Test
+    void coversMatchesPatternsAndExactDestinations() {
+        assertThat(registry.covers("/topic/flights/*", "/topic/flights/42")).isTrue();
+        assertThat(registry.covers("/topic/flights/42", "/topic/flights/42")).isTrue();
+        assertThat(registry.covers("/topic/flights/42", "/topic/flights/43")).isFalse();
+    }
+
+    private static SessionSubscribeEvent subscribe(String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return new SessionSubscribeEvent(SubscriptionRegistryTest.class, message(accessor));
+    }
+
+    private static SessionUnsubscribeEvent unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return new SessionUnsubscribeEvent(SubscriptionRegistryTest.class, message(accessor));
+    }
+
+    private static Message<byte[]> message(SimpMessageHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
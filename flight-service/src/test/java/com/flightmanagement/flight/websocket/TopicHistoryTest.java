@@ -0,0 +1,108 @@
+package com.flightmanagement.flight.websocket;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopicHistoryTest {
+
+    @Test
+    void framesCarryStreamSequenceAndUpdates() {
+        TopicSequencer.TopicHistory history = new TopicSequencer.TopicHistory(4);
+
+        String frame = new String(history.append(updates(1)), StandardCharsets.UTF_8);
+
+        assertThat(frame).isEqualTo("{\"stream\":\"" + history.stream() + "\",\"seq\":1,\"updates\":[1]}");
+    }
+
+    @Test
+    void replaysFramesAfterLastSeq() {
+        TopicSequencer.TopicHistory history = historyWith(4, 3);
+
+        TopicSequencer.Replay replay = history.replayAfter(history.stream(), 1L);
+
+        assertThat(replay.stream()).isEqualTo(history.stream());
+        assertThat(replay.seq()).isEqualTo(3);
+        assertThat(seqs(replay.frames())).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void clientAlreadyAtSeqGetsNoFrames() {
+        TopicSequencer.TopicHistory history = historyWith(4, 3);
+
+        TopicSequencer.Replay replay = history.replayAfter(history.stream(), 3L);
+
+        assertThat(replay.seq()).isEqualTo(3);
+        assertThat(replay.frames()).isEmpty();
+    }
+
+    @Test
+    void otherStreamNeedsSnapshot() {
+        TopicSequencer.TopicHistory history = historyWith(4, 3);
+
+        TopicSequencer.Replay replay = history.replayAfter("previous", 2L);
+
+        assertThat(replay.stream()).isEqualTo(history.stream());
+        assertThat(replay.seq()).isEqualTo(3);
+        assertThat(replay.frames()).isNull();
+    }
+
+    @Test
+    void missingLastSeqNeedsSnapshot() {
+        TopicSequencer.TopicHistory history = historyWith(4, 3);
+
+        assertThat(history.replayAfter(history.stream(), null).frames()).isNull();
+    }
+
+    @Test
+    void lastSeqAheadOfHistoryNeedsSnapshot() {
+        TopicSequencer.TopicHistory history = historyWith(4, 3);
+
+        TopicSequencer.Replay replay = history.replayAfter(history.stream(), 4L);
+
+        assertThat(replay.seq()).isEqualTo(3);
+        assertThat(replay.frames()).isNull();
+    }
+
+    @Test
+    void replaysWhenOldestBufferedFrameFollowsLastSeq() {
+        TopicSequencer.TopicHistory history = historyWith(3, 5);
+
+        TopicSequencer.Replay replay = history.replayAfter(history.stream(), 2L);
+
+        assertThat(seqs(replay.frames())).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void gapBeforeOldestBufferedFrameNeedsSnapshot() {
+        TopicSequencer.TopicHistory history = historyWith(3, 5);
+
+        TopicSequencer.Replay replay = history.replayAfter(history.stream(), 1L);
+
+        assertThat(replay.seq()).isEqualTo(5);
+        assertThat(replay.frames()).isNull();
+    }
+
+    private static TopicSequencer.TopicHistory historyWith(int capacity, int frames) {
+        TopicSequencer.TopicHistory history = new TopicSequencer.TopicHistory(capacity);
+        for (int i = 1; i <= frames; i++) {
+            history.append(updates(i));
+        }
+        return history;
+    }
+
+    private static byte[] updates(int value) {
+        return ("[" + value + "]").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<Long> seqs(List<byte[]> frames) {
+        return frames.stream()
+                .map(frame -> new String(frame, StandardCharsets.UTF_8))
+                .map(frame -> frame.substring(frame.indexOf("\"seq\":") + 6, frame.indexOf(",\"updates\"")))
+                .map(Long::parseLong)
+                .toList();
+    }
+}
@@ -13,6 +13,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/aircraft")
 @RequiredArgsConstructor
@@ -27,13 +29,31 @@ public class AircraftController {
 
         Pageable pageable = PageRequest.of(page, size);
         PagedResponse<AircraftResponseDto> response = aircraftService.getAllAircraft(pageable);
-        return ResponseEntity.ok(response);
+        return ResponseETags.ok(response);
+    }
+
+    @GetMapping("/type/{type}")
+    public ResponseEntity<AircraftResponseDto> getAircraftByType(@PathVariable String type) {
+        AircraftResponseDto response = aircraftService.getAircraftByType(type.trim());
+        return ResponseETags.ok(response);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<AircraftResponseDto>> getAircraftByIds(@RequestParam List<Long> ids) {
+        List<AircraftResponseDto> response = aircraftService.getAircraftByIds(ids);
+        return ResponseETags.ok(response);
+    }
+
+    @GetMapping(params = "types")
+    public ResponseEntity<List<AircraftResponseDto>> getAircraftByTypes(@RequestParam List<String> types) {
+        List<AircraftResponseDto> response = aircraftService.getAircraftByTypes(types);
+        return ResponseETags.ok(response);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<AircraftResponseDto> getAircraftById(@PathVariable Long id) {
         AircraftResponseDto response = aircraftService.getAircraftById(id);
-        return ResponseEntity.ok(response);
+        return ResponseETags.ok(response);
     }
 
     @PostMapping
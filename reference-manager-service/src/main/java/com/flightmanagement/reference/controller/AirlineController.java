@@ -19,6 +19,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/airlines")
 @RequiredArgsConstructor
@@ -37,7 +39,16 @@ public class AirlineController {
 
         Pageable pageable = PageRequest.of(page, size);
         PagedResponse<AirlineResponseDto> response = airlineService.getAllAirlines(pageable);
-        return ResponseEntity.ok(response);
+        return ResponseETags.ok(response);
+    }
+
+    @Operation(summary = "Get airlines by IDs", description = "Bulk lookup, unknown IDs are omitted")
+    @ApiResponse(responseCode = "200", description = "Airlines retrieved successfully")
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<AirlineResponseDto>> getAirlinesByIds(
+            @Parameter(description = "Comma separated airline IDs") @RequestParam List<Long> ids) {
+        List<AirlineResponseDto> response = airlineService.getAirlinesByIds(ids);
+        return ResponseETags.ok(response);
     }
 
     @Operation(summary = "Get airline by ID")
@@ -48,7 +59,18 @@ public class AirlineController {
     @GetMapping("/{id}")
     public ResponseEntity<AirlineResponseDto> getAirlineById(@PathVariable Long id) {
         AirlineResponseDto response = airlineService.getAirlineById(id);
-        return ResponseEntity.ok(response);
+        return ResponseETags.ok(response);
+    }
+
+    @Operation(summary = "Get airline by code")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Airline found"),
+            @ApiResponse(responseCode = "404", description = "Airline not found")
+    })
+    @GetMapping("/code/{code}")
+    public ResponseEntity<AirlineResponseDto> getAirlineByCode(@PathVariable String code) {
+        AirlineResponseDto response = airlineService.getAirlineByCode(code.trim().toUpperCase());
+        return ResponseETags.ok(response);
     }
 
     @Operation(summary = "Create airline", description = "Admin only operation")
@@ -0,0 +1,32 @@
+package com.flightmanagement.reference.controller;
+
+import com.flightmanagement.reference.dto.request.ReferenceResolveRequestDto;
+import com.flightmanagement.reference.dto.response.ReferenceResolveResponseDto;
+import com.flightmanagement.reference.service.ReferenceResolveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/references")
+@RequiredArgsConstructor
+@Tag(name = "References", description = "Bulk reference data resolution")
+@SecurityRequirement(name = "bearerAuth")
+public class ReferenceResolveController {
+
+    private final ReferenceResolveService referenceResolveService;
+
+    @Operation(summary = "Resolve reference tuples",
+            description = "Resolve (airline code, aircraft type, origin ICAO, destination ICAO) tuples in one call")
+    @ApiResponse(responseCode = "200", description = "References resolved")
+    @PostMapping("/resolve")
+    public ResponseEntity<ReferenceResolveResponseDto> resolve(@Valid @RequestBody ReferenceResolveRequestDto request) {
+        ReferenceResolveResponseDto response = referenceResolveService.resolve(request.getTuples());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,47 @@
+package com.flightmanagement.reference.controller;
+
+import com.flightmanagement.reference.dto.response.ReferenceSnapshotDto;
+import com.flightmanagement.reference.service.ReferenceSnapshotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/references")
+@RequiredArgsConstructor
+@Tag(name = "References", description = "Bulk reference data resolution")
+@SecurityRequirement(name = "bearerAuth")
+public class ReferenceSnapshotController {
+
+    private final ReferenceSnapshotService referenceSnapshotService;
+
+    @Operation(summary = "Full reference snapshot",
+            description = "All airlines, stations and aircraft together with the reference data version")
+    @GetMapping("/snapshot")
+    public ResponseEntity<ReferenceSnapshotDto> getSnapshot(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Every write bumps the version, so an unchanged version answers 304 without loading the rows
+        String current = ResponseETags.ofVersion(referenceSnapshotService.getVersion());
+        if (current.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(current).build();
+        }
+        ReferenceSnapshotDto snapshot = referenceSnapshotService.getSnapshot();
+        return ResponseEntity.ok().eTag(ResponseETags.ofVersion(snapshot.getVersion())).body(snapshot);
+    }
+
+    @Operation(summary = "Current reference data version")
+    @GetMapping("/version")
+    public ResponseEntity<Map<String, Long>> getVersion() {
+        return ResponseEntity.ok(Map.of("version", referenceSnapshotService.getVersion()));
+    }
+}
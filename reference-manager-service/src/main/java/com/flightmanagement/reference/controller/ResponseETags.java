@@ -0,0 +1,30 @@
+package com.flightmanagement.reference.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Strong ETags for reference GET responses. The tag is a digest of the response DTOs, which carry
+ * {@code id} and {@code updatedAt} for every entity, so any change to a row (or to the set of rows
+ * on a list page) yields a new tag. Spring answers a matching {@code If-None-Match} with 304.
+ */
+final class ResponseETags {
+
+    private ResponseETags() {
+    }
+
+    static <T> ResponseEntity<T> ok(T body) {
+        return ResponseEntity.ok().eTag(of(body)).body(body);
+    }
+
+    static String of(Object body) {
+        // Lombok's toString covers every field, updatedAt included; updatedAt alone is only second-precise
+        return "\"" + DigestUtils.md5DigestAsHex(String.valueOf(body).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    static String ofVersion(long version) {
+        return "\"v" + version + "\"";
+    }
+}
@@ -29,19 +29,44 @@ public class StationController {
 
         Pageable pageable = PageRequest.of(page, size);
         PagedResponse<StationResponseDto> response = stationService.getAllStations(pageable);
-        return ResponseEntity.ok(response);
+        return ResponseETags.ok(response);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<StationResponseDto> getStationById(@PathVariable Long id) {
         StationResponseDto response = stationService.getStationById(id);
-        return ResponseEntity.ok(response);
+        return ResponseETags.ok(response);
+    }
+
+    @GetMapping("/icao/{code}")
+    public ResponseEntity<StationResponseDto> getStationByIcaoCode(@PathVariable String code) {
+        StationResponseDto response = stationService.getStationByIcaoCode(code.trim().toUpperCase());
+        return ResponseETags.ok(response);
+    }
+
+    @GetMapping("/iata/{code}")
+    public ResponseEntity<StationResponseDto> getStationByIataCode(@PathVariable String code) {
+        StationResponseDto response = stationService.getStationByIataCode(code.trim().toUpperCase());
+        return ResponseETags.ok(response);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<StationResponseDto>> getStationsByIds(@RequestParam List<Long> ids) {
+        List<StationResponseDto> response = stationService.getStationsByIds(ids);
+        return ResponseETags.ok(response);
+    }
+
+    @GetMapping("/by-icao")
+    public ResponseEntity<List<StationResponseDto>> getStationsByIcaoCodes(@RequestParam List<String> codes) {
+        List<StationResponseDto> response = stationService.getStationsByIcaoCodes(
+                codes.stream().map(String::toUpperCase).toList());
+        return ResponseETags.ok(response);
     }
 
     @GetMapping("/search")
     public ResponseEntity<List<StationResponseDto>> searchStations(@RequestParam String query) {
         List<StationResponseDto> response = stationService.searchStations(query);
-        return ResponseEntity.ok(response);
+        return ResponseETags.ok(response);
     }
 
     @PostMapping
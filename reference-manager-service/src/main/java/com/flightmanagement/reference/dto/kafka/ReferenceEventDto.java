@@ -13,6 +13,9 @@ public class ReferenceEventDto {
     private String entityType;
     private Long entityId;
     private Long airlineId;
+    private Long version;
     private LocalDateTime timestamp;
     private Object data;
+    // State before an update, so consumers can evict entries keyed by a code that has since changed
+    private Object previousData;
 }
\ No newline at end of file
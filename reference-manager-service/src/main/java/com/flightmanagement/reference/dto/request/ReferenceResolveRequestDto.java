@@ -0,0 +1,25 @@
+package com.flightmanagement.reference.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ReferenceResolveRequestDto {
+
+    @NotEmpty(message = "At least one reference tuple is required")
+    @Size(max = 1000, message = "Cannot resolve more than 1000 tuples per request")
+    @Valid
+    private List<ReferenceTuple> tuples;
+
+    @Data
+    public static class ReferenceTuple {
+        private String airlineCode;
+        private String aircraftType;
+        private String originIcaoCode;
+        private String destinationIcaoCode;
+    }
+}
@@ -0,0 +1,16 @@
+package com.flightmanagement.reference.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+@Builder
+public class ReferenceResolveResponseDto {
+
+    // Keyed by airline code, aircraft type and ICAO code; unknown codes are absent
+    private Map<String, AirlineResponseDto> airlines;
+    private Map<String, AircraftResponseDto> aircraft;
+    private Map<String, StationResponseDto> stations;
+}
@@ -0,0 +1,16 @@
+package com.flightmanagement.reference.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ReferenceSnapshotDto {
+
+    private long version;
+    private List<AirlineResponseDto> airlines;
+    private List<StationResponseDto> stations;
+    private List<AircraftResponseDto> aircraft;
+}
@@ -6,6 +6,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface AircraftRepository extends JpaRepository<Aircraft, Long> {
 
@@ -14,4 +18,8 @@ public interface AircraftRepository extends JpaRepository<Aircraft, Long> {
     Page<Aircraft> findByTypeContainingIgnoreCase(String type, Pageable pageable);
 
     Page<Aircraft> findByIsActive(Boolean isActive, Pageable pageable);
+
+    Optional<Aircraft> findFirstByTypeOrderByIdAsc(String type);
+
+    List<Aircraft> findByTypeInOrderByIdAsc(Collection<String> types);
 }
\ No newline at end of file
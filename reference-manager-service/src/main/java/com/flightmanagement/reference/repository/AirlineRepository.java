@@ -6,6 +6,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,6 +17,8 @@ public interface AirlineRepository extends JpaRepository<Airline, Long> {
 
     boolean existsByCode(String code);
 
+    List<Airline> findByCodeIn(Collection<String> codes);
+
     Page<Airline> findByIsActive(Boolean isActive, Pageable pageable);
 
     Page<Airline> findByCountryContainingIgnoreCase(String country, Pageable pageable);
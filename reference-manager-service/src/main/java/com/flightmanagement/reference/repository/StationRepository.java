@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,8 @@ public interface StationRepository extends JpaRepository<Station, Long> {
 
     Optional<Station> findByIataCode(String iataCode);
 
+    List<Station> findByIcaoCodeIn(Collection<String> icaoCodes);
+
     @Query("SELECT s FROM Station s WHERE s.icaoCode LIKE %:query% OR s.iataCode LIKE %:query% OR s.name LIKE %:query%")
     List<Station> searchStations(String query);
 
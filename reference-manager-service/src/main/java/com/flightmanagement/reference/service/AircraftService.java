@@ -10,11 +10,15 @@ import com.flightmanagement.reference.repository.AircraftRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -23,6 +27,7 @@ public class AircraftService {
     private final AircraftRepository aircraftRepository;
     private final AircraftMapper aircraftMapper;
     private final EventPublishService eventPublishService;
+    private final ReferenceVersionService referenceVersionService;
 
     public PagedResponse<AircraftResponseDto> getAllAircraft(Pageable pageable) {
         Page<Aircraft> aircraft = aircraftRepository.findAll(pageable);
@@ -35,31 +40,61 @@ public class AircraftService {
         return aircraftMapper.toResponseDto(aircraft);
     }
 
+    @Cacheable(value = "aircraft-by-type", key = "#type")
+    @Transactional(readOnly = true)
+    public AircraftResponseDto getAircraftByType(String type) {
+        Aircraft aircraft = aircraftRepository.findFirstByTypeOrderByIdAsc(type)
+                .orElseThrow(() -> new ReferenceNotFoundException("Aircraft not found with type: " + type));
+        return aircraftMapper.toResponseDto(aircraft);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AircraftResponseDto> getAircraftByIds(Collection<Long> ids) {
+        return aircraftRepository.findAllById(ids).stream().map(aircraftMapper::toResponseDto).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<AircraftResponseDto> getAircraftByTypes(Collection<String> types) {
+        return aircraftRepository.findByTypeInOrderByIdAsc(types).stream().map(aircraftMapper::toResponseDto).toList();
+    }
+
     public AircraftResponseDto createAircraft(AircraftCreateRequestDto request) {
         Aircraft aircraft = aircraftMapper.toEntity(request);
         aircraft = aircraftRepository.save(aircraft);
 
-        eventPublishService.publishReferenceEvent("CREATED", "AIRCRAFT", aircraft.getId(), null);
-        return aircraftMapper.toResponseDto(aircraft);
+        AircraftResponseDto response = aircraftMapper.toResponseDto(aircraft);
+        eventPublishService.publishReferenceChange("CREATED", "AIRCRAFT", aircraft.getId(),
+                referenceVersionService.nextVersion(), response);
+        return response;
     }
 
-    @CacheEvict(value = "aircraft", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "aircraft", key = "#id"),
+            @CacheEvict(value = "aircraft-by-type", allEntries = true)
+    })
     public AircraftResponseDto updateAircraft(Long id, AircraftCreateRequestDto request) {
         Aircraft aircraft = getAircraft(id);
+        AircraftResponseDto previous = aircraftMapper.toResponseDto(aircraft);
         aircraftMapper.updateEntityFromDto(request, aircraft);
         aircraft = aircraftRepository.save(aircraft);
 
-        eventPublishService.publishReferenceEvent("UPDATED", "AIRCRAFT", aircraft.getId(), null);
-        return aircraftMapper.toResponseDto(aircraft);
+        AircraftResponseDto response = aircraftMapper.toResponseDto(aircraft);
+        eventPublishService.publishReferenceChange("UPDATED", "AIRCRAFT", aircraft.getId(),
+                referenceVersionService.nextVersion(), previous, response);
+        return response;
     }
 
-    @CacheEvict(value = "aircraft", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "aircraft", key = "#id"),
+            @CacheEvict(value = "aircraft-by-type", allEntries = true)
+    })
     public void deleteAircraft(Long id) {
         Aircraft aircraft = getAircraft(id);
         aircraft.setIsActive(false);
-        aircraftRepository.save(aircraft);
+        aircraft = aircraftRepository.save(aircraft);
 
-        eventPublishService.publishReferenceEvent("DELETED", "AIRCRAFT", aircraft.getId(), null);
+        eventPublishService.publishReferenceChange("DELETED", "AIRCRAFT", aircraft.getId(),
+                referenceVersionService.nextVersion(), aircraftMapper.toResponseDto(aircraft));
     }
 
     private Aircraft getAircraft(Long id) {
@@ -11,11 +11,15 @@ import com.flightmanagement.reference.repository.AirlineRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -24,6 +28,7 @@ public class AirlineService {
     private final AirlineRepository airlineRepository;
     private final AirlineMapper airlineMapper;
     private final EventPublishService eventPublishService;
+    private final ReferenceVersionService referenceVersionService;
 
     public PagedResponse<AirlineResponseDto> getAllAirlines(Pageable pageable) {
         Page<Airline> airlines = airlineRepository.findAll(pageable);
@@ -36,6 +41,24 @@ public class AirlineService {
         return airlineMapper.toResponseDto(airline);
     }
 
+    @Cacheable(value = "airlines-by-code", key = "#code")
+    @Transactional(readOnly = true)
+    public AirlineResponseDto getAirlineByCode(String code) {
+        Airline airline = airlineRepository.findByCode(code)
+                .orElseThrow(() -> new ReferenceNotFoundException("Airline not found with code: " + code));
+        return airlineMapper.toResponseDto(airline);
+    }
+
+    @Transactional(readOnly = true)
+    public List<AirlineResponseDto> getAirlinesByIds(Collection<Long> ids) {
+        return airlineRepository.findAllById(ids).stream().map(airlineMapper::toResponseDto).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<AirlineResponseDto> getAirlinesByCodes(Collection<String> codes) {
+        return airlineRepository.findByCodeIn(codes).stream().map(airlineMapper::toResponseDto).toList();
+    }
+
     public AirlineResponseDto createAirline(AirlineCreateRequestDto request) {
         if (airlineRepository.existsByCode(request.getCode())) {
             throw new DuplicateReferenceException("Airline code already exists: " + request.getCode());
@@ -44,13 +67,19 @@ public class AirlineService {
         Airline airline = airlineMapper.toEntity(request);
         airline = airlineRepository.save(airline);
 
-        eventPublishService.publishReferenceEvent("CREATED", "AIRLINE", airline.getId(), null);
-        return airlineMapper.toResponseDto(airline);
+        AirlineResponseDto response = airlineMapper.toResponseDto(airline);
+        eventPublishService.publishReferenceChange("CREATED", "AIRLINE", airline.getId(),
+                referenceVersionService.nextVersion(), response);
+        return response;
     }
 
-    @CacheEvict(value = "airlines", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "airlines", key = "#id"),
+            @CacheEvict(value = "airlines-by-code", allEntries = true)
+    })
     public AirlineResponseDto updateAirline(Long id, AirlineCreateRequestDto request) {
         Airline airline = getAirline(id);
+        AirlineResponseDto previous = airlineMapper.toResponseDto(airline);
 
         if (!airline.getCode().equals(request.getCode()) && airlineRepository.existsByCode(request.getCode())) {
             throw new DuplicateReferenceException("Airline code already exists: " + request.getCode());
@@ -59,17 +88,23 @@ public class AirlineService {
         airlineMapper.updateEntityFromDto(request, airline);
         airline = airlineRepository.save(airline);
 
-        eventPublishService.publishReferenceEvent("UPDATED", "AIRLINE", airline.getId(), null);
-        return airlineMapper.toResponseDto(airline);
+        AirlineResponseDto response = airlineMapper.toResponseDto(airline);
+        eventPublishService.publishReferenceChange("UPDATED", "AIRLINE", airline.getId(),
+                referenceVersionService.nextVersion(), previous, response);
+        return response;
     }
 
-    @CacheEvict(value = "airlines", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "airlines", key = "#id"),
+            @CacheEvict(value = "airlines-by-code", allEntries = true)
+    })
     public void deleteAirline(Long id) {
         Airline airline = getAirline(id);
         airline.setIsActive(false);
-        airlineRepository.save(airline);
+        airline = airlineRepository.save(airline);
 
-        eventPublishService.publishReferenceEvent("DELETED", "AIRLINE", airline.getId(), null);
+        eventPublishService.publishReferenceChange("DELETED", "AIRLINE", airline.getId(),
+                referenceVersionService.nextVersion(), airlineMapper.toResponseDto(airline));
     }
 
     private Airline getAirline(Long id) {
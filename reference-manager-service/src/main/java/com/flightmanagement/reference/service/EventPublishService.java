@@ -7,6 +7,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 
@@ -38,4 +40,43 @@ public class EventPublishService {
             log.error("Failed to publish reference event", e);
         }
     }
+
+    public void publishReferenceChange(String eventType, String entityType, Long entityId, long version, Object data) {
+        publishReferenceChange(eventType, entityType, entityId, version, null, data);
+    }
+
+    public void publishReferenceChange(String eventType, String entityType, Long entityId, long version,
+                                       Object previousData, Object data) {
+        ReferenceEventDto event = ReferenceEventDto.builder()
+                .eventType(eventType)
+                .entityType(entityType)
+                .entityId(entityId)
+                .version(version)
+                .timestamp(LocalDateTime.now())
+                .data(data)
+                .previousData(previousData)
+                .build();
+
+        // Consumers apply the payload as a delta, so it must never describe a rolled back change
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(ReferenceEventDto event) {
+        try {
+            kafkaTemplate.send(referenceEventsTopic, event.getEntityId().toString(), event);
+            log.info("Published reference change: {} for entity: {} with id: {} at version {}",
+                    event.getEventType(), event.getEntityType(), event.getEntityId(), event.getVersion());
+        } catch (Exception e) {
+            log.error("Failed to publish reference change", e);
+        }
+    }
 }
\ No newline at end of file
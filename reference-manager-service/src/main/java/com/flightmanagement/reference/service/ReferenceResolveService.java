@@ -0,0 +1,67 @@
+package com.flightmanagement.reference.service;
+
+import com.flightmanagement.reference.dto.request.ReferenceResolveRequestDto;
+import com.flightmanagement.reference.dto.response.AircraftResponseDto;
+import com.flightmanagement.reference.dto.response.AirlineResponseDto;
+import com.flightmanagement.reference.dto.response.ReferenceResolveResponseDto;
+import com.flightmanagement.reference.dto.response.StationResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReferenceResolveService {
+
+    private final AirlineService airlineService;
+    private final AircraftService aircraftService;
+    private final StationService stationService;
+
+    public ReferenceResolveResponseDto resolve(List<ReferenceResolveRequestDto.ReferenceTuple> tuples) {
+        Set<String> airlineCodes = new HashSet<>();
+        Set<String> aircraftTypes = new HashSet<>();
+        Set<String> icaoCodes = new HashSet<>();
+
+        for (ReferenceResolveRequestDto.ReferenceTuple tuple : tuples) {
+            addNormalized(airlineCodes, tuple.getAirlineCode());
+            addNormalized(aircraftTypes, tuple.getAircraftType());
+            addNormalized(icaoCodes, tuple.getOriginIcaoCode());
+            addNormalized(icaoCodes, tuple.getDestinationIcaoCode());
+        }
+
+        // One IN query per entity type regardless of how many tuples were sent
+        Map<String, AirlineResponseDto> airlines = new HashMap<>();
+        if (!airlineCodes.isEmpty()) {
+            airlineService.getAirlinesByCodes(airlineCodes).forEach(a -> airlines.put(a.getCode(), a));
+        }
+
+        Map<String, AircraftResponseDto> aircraft = new HashMap<>();
+        if (!aircraftTypes.isEmpty()) {
+            aircraftService.getAircraftByTypes(aircraftTypes).forEach(a -> aircraft.putIfAbsent(a.getType(), a));
+        }
+
+        Map<String, StationResponseDto> stations = new HashMap<>();
+        if (!icaoCodes.isEmpty()) {
+            stationService.getStationsByIcaoCodes(icaoCodes).forEach(s -> stations.put(s.getIcaoCode(), s));
+        }
+
+        return ReferenceResolveResponseDto.builder()
+                .airlines(airlines)
+                .aircraft(aircraft)
+                .stations(stations)
+                .build();
+    }
+
+    private void addNormalized(Set<String> codes, String code) {
+        if (code != null && !code.isBlank()) {
+            codes.add(code.trim().toUpperCase());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.flightmanagement.reference.service;
+
+import com.flightmanagement.reference.dto.response.ReferenceSnapshotDto;
+import com.flightmanagement.reference.mapper.AircraftMapper;
+import com.flightmanagement.reference.mapper.AirlineMapper;
+import com.flightmanagement.reference.mapper.StationMapper;
+import com.flightmanagement.reference.repository.AircraftRepository;
+import com.flightmanagement.reference.repository.AirlineRepository;
+import com.flightmanagement.reference.repository.StationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReferenceSnapshotService {
+
+    private final ReferenceVersionService referenceVersionService;
+    private final AirlineRepository airlineRepository;
+    private final StationRepository stationRepository;
+    private final AircraftRepository aircraftRepository;
+    private final AirlineMapper airlineMapper;
+    private final StationMapper stationMapper;
+    private final AircraftMapper aircraftMapper;
+
+    public ReferenceSnapshotDto getSnapshot() {
+        // The version is read first so the rows below come from the same consistent read view
+        long version = referenceVersionService.currentVersion();
+
+        return ReferenceSnapshotDto.builder()
+                .version(version)
+                .airlines(airlineRepository.findAll().stream().map(airlineMapper::toResponseDto).toList())
+                .stations(stationRepository.findAll().stream().map(stationMapper::toResponseDto).toList())
+                .aircraft(aircraftRepository.findAll().stream().map(aircraftMapper::toResponseDto).toList())
+                .build();
+    }
+
+    public long getVersion() {
+        return referenceVersionService.currentVersion();
+    }
+}
@@ -0,0 +1,30 @@
+package com.flightmanagement.reference.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Single monotonically increasing version of the airline, station and aircraft data.
+ * Writers bump it inside their own transaction, so the row lock orders versions by commit.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReferenceVersionService {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long nextVersion() {
+        jdbcTemplate.update("UPDATE reference_data_version SET version = version + 1 WHERE id = 1");
+        return currentVersion();
+    }
+
+    @Transactional(readOnly = true)
+    public long currentVersion() {
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM reference_data_version WHERE id = 1", Long.class);
+        return version != null ? version : 0L;
+    }
+}
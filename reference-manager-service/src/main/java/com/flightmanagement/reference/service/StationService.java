@@ -11,11 +11,13 @@ import com.flightmanagement.reference.repository.StationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -26,6 +28,7 @@ public class StationService {
     private final StationRepository stationRepository;
     private final StationMapper stationMapper;
     private final EventPublishService eventPublishService;
+    private final ReferenceVersionService referenceVersionService;
 
     public PagedResponse<StationResponseDto> getAllStations(Pageable pageable) {
         Page<Station> stations = stationRepository.findAll(pageable);
@@ -43,35 +46,73 @@ public class StationService {
         return stations.stream().map(stationMapper::toResponseDto).toList();
     }
 
+    @Cacheable(value = "stations-by-icao", key = "#icaoCode")
+    @Transactional(readOnly = true)
+    public StationResponseDto getStationByIcaoCode(String icaoCode) {
+        Station station = stationRepository.findByIcaoCode(icaoCode)
+                .orElseThrow(() -> new ReferenceNotFoundException("Station not found with ICAO code: " + icaoCode));
+        return stationMapper.toResponseDto(station);
+    }
+
+    @Cacheable(value = "stations-by-iata", key = "#iataCode")
+    @Transactional(readOnly = true)
+    public StationResponseDto getStationByIataCode(String iataCode) {
+        Station station = stationRepository.findByIataCode(iataCode)
+                .orElseThrow(() -> new ReferenceNotFoundException("Station not found with IATA code: " + iataCode));
+        return stationMapper.toResponseDto(station);
+    }
+
+    @Transactional(readOnly = true)
+    public List<StationResponseDto> getStationsByIds(Collection<Long> ids) {
+        return stationRepository.findAllById(ids).stream().map(stationMapper::toResponseDto).toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<StationResponseDto> getStationsByIcaoCodes(Collection<String> icaoCodes) {
+        return stationRepository.findByIcaoCodeIn(icaoCodes).stream().map(stationMapper::toResponseDto).toList();
+    }
+
     public StationResponseDto createStation(StationCreateRequestDto request) {
         validateUniqueConstraints(request, null);
 
         Station station = stationMapper.toEntity(request);
         station = stationRepository.save(station);
 
-        eventPublishService.publishReferenceEvent("CREATED", "STATION", station.getId(), null);
-        return stationMapper.toResponseDto(station);
+        StationResponseDto response = stationMapper.toResponseDto(station);
+        eventPublishService.publishReferenceChange("CREATED", "STATION", station.getId(),
+                referenceVersionService.nextVersion(), response);
+        return response;
     }
 
-    @CacheEvict(value = "stations", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "stations", key = "#id"),
+            @CacheEvict(value = {"stations-by-icao", "stations-by-iata"}, allEntries = true)
+    })
     public StationResponseDto updateStation(Long id, StationCreateRequestDto request) {
         Station station = getStation(id);
+        StationResponseDto previous = stationMapper.toResponseDto(station);
         validateUniqueConstraints(request, id);
 
         stationMapper.updateEntityFromDto(request, station);
         station = stationRepository.save(station);
 
-        eventPublishService.publishReferenceEvent("UPDATED", "STATION", station.getId(), null);
-        return stationMapper.toResponseDto(station);
+        StationResponseDto response = stationMapper.toResponseDto(station);
+        eventPublishService.publishReferenceChange("UPDATED", "STATION", station.getId(),
+                referenceVersionService.nextVersion(), previous, response);
+        return response;
     }
 
-    @CacheEvict(value = "stations", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(value = "stations", key = "#id"),
+            @CacheEvict(value = {"stations-by-icao", "stations-by-iata"}, allEntries = true)
+    })
     public void deleteStation(Long id) {
         Station station = getStation(id);
         station.setIsActive(false);
-        stationRepository.save(station);
+        station = stationRepository.save(station);
 
-        eventPublishService.publishReferenceEvent("DELETED", "STATION", station.getId(), null);
+        eventPublishService.publishReferenceChange("DELETED", "STATION", station.getId(),
+                referenceVersionService.nextVersion(), stationMapper.toResponseDto(station));
     }
 
     private void validateUniqueConstraints(StationCreateRequestDto request, Long excludeId) {